@@ -6,11 +6,14 @@ import com.fierceadventurer.aiservice.service.AiGenerateService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/v1/ai")
 @RequiredArgsConstructor
@@ -19,8 +22,10 @@ public class AiController {
 
     @PostMapping("/generate")
     public ResponseEntity<GenerateResponseDto> generateContent(
-            @Valid @RequestBody GenerateRequestDto request){
-        GenerateResponseDto response = aiGenerateService.generateContent(request);
+            @Valid @RequestBody GenerateRequestDto request,
+            JwtAuthenticationToken token){
+        UUID userId = UUID.fromString(token.getTokenAttributes().get("sub").toString());
+        GenerateResponseDto response = aiGenerateService.generateContent(request, userId);
         return ResponseEntity.ok(response);
     }
 
@@ -4,10 +4,15 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.UUID;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class AiGenerationCompletedEvent {
+    // Unique per generation; consumers use it to drop redelivered events.
+    private UUID requestId;
+    private UUID userId;
     private String prompt;
     private String generatedContent;
     private String platform;
@@ -7,6 +7,6 @@ import jakarta.validation.constraints.NotBlank;
 import java.util.UUID;
 
 public interface AiGenerateService {
-    GenerateResponseDto generateContent(GenerateRequestDto request);
+    GenerateResponseDto generateContent(GenerateRequestDto request, UUID userId);
 
 }
@@ -38,7 +38,7 @@ public class AiGenerationServiceImpl implements AiGenerateService {
     private final ObjectMapper objectMapper;
 
     @Override
-    public GenerateResponseDto generateContent(GenerateRequestDto request) {
+    public GenerateResponseDto generateContent(GenerateRequestDto request, UUID userId) {
         log.info("Generating content for prompt: [{}...], with {} ",
                 request.getPrompt().substring(0, Math.min(request.getPrompt().length(), 50)),
                 request.getMediaIds() == null ? 0 : request.getMediaIds().size());
@@ -90,7 +90,7 @@ public class AiGenerationServiceImpl implements AiGenerateService {
                     .collect(Collectors.toList());
 
             String combinedContent = String.join("\n\n---\n\n", options);
-            publishToKafka(request , combinedContent);
+            publishToKafka(request , userId, combinedContent);
             return new GenerateResponseDto(rawContent);
         }
         catch (Exception e){
@@ -138,9 +138,12 @@ public class AiGenerationServiceImpl implements AiGenerateService {
         return sb.toString();
     }
 
-    private void publishToKafka(GenerateRequestDto request , String generateContent){
+    private void publishToKafka(GenerateRequestDto request , UUID userId, String generateContent){
         try {
+            UUID requestId = UUID.randomUUID();
             AiGenerationCompletedEvent event = new AiGenerationCompletedEvent(
+                    requestId,
+                    userId,
                     request.getPrompt(),
                     generateContent,
                     request.getPlatform() != null ? request.getPlatform() : "LINKEDIN",
@@ -149,7 +152,7 @@ public class AiGenerationServiceImpl implements AiGenerateService {
 
             String jsonEvent = objectMapper.writeValueAsString(event);
 
-            kafkaTemplate.send("ai-service-completed-topic", jsonEvent);
+            kafkaTemplate.send("ai-service-completed-topic", requestId.toString(), jsonEvent);
             log.info("Successfully published AI generation event to Kafka");
         }
         catch (JsonProcessingException e){
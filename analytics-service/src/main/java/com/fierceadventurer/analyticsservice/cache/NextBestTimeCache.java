@@ -0,0 +1,144 @@
+package com.fierceadventurer.analyticsservice.cache;
+
+import com.fierceadventurer.analyticsservice.entity.OptimalTimeSlot;
+import com.fierceadventurer.analyticsservice.enums.Provider;
+import com.fierceadventurer.analyticsservice.service.EngagementAccumulator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-account slot ranking, best first, already filtered to what the provider may be scheduled
+ * into. Rankings are replaced when an analysis on this replica completes and reloaded from the
+ * database once their TTL passes, which bounds how long another replica's analysis can go
+ * unseen. Accounts without slots are cached for a shorter TTL so they pick up their first
+ * analysis quickly.
+ */
+@Component
+public class NextBestTimeCache {
+
+    public record Ranking(Provider provider, int[] slots, long refreshedAtMillis, long expiresAtNanos) {
+        public boolean isEmpty() {
+            return slots.length == 0;
+        }
+
+        public DayOfWeek dayOf(int rank) {
+            return EngagementAccumulator.dayOf(slots[rank]);
+        }
+
+        public int hourOf(int rank) {
+            return EngagementAccumulator.hourOf(slots[rank]);
+        }
+    }
+
+    private final Map<UUID, Ranking> rankings = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final long emptyTtlNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter expired;
+
+    public NextBestTimeCache(
+            MeterRegistry meterRegistry,
+            @Value("${analytics.next-best-time.cache-ttl:15m}") Duration ttl,
+            @Value("${analytics.next-best-time.empty-ttl:1m}") Duration emptyTtl
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        this.emptyTtlNanos = emptyTtl.toNanos();
+
+        this.hits = Counter.builder("analytics.next-best-time.cache")
+                .tag("result", "hit")
+                .description("Next-best-time lookups answered from the precomputed ranking")
+                .register(meterRegistry);
+        this.misses = Counter.builder("analytics.next-best-time.cache")
+                .tag("result", "miss")
+                .description("Next-best-time lookups for accounts with no cached ranking")
+                .register(meterRegistry);
+        this.expired = Counter.builder("analytics.next-best-time.cache")
+                .tag("result", "expired")
+                .description("Next-best-time lookups whose cached ranking had outlived its TTL")
+                .register(meterRegistry);
+        Gauge.builder("analytics.next-best-time.cache.entries", rankings, Map::size)
+                .description("Accounts with a cached slot ranking")
+                .register(meterRegistry);
+        Gauge.builder("analytics.next-best-time.cache.oldest-age", this, NextBestTimeCache::oldestAgeSeconds)
+                .baseUnit("seconds")
+                .description("Age of the least recently refreshed slot ranking still within its TTL")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The account's ranking, or null when it has never been loaded or has expired.
+     */
+    public Ranking get(UUID socialAccountId) {
+        Ranking ranking = rankings.get(socialAccountId);
+        if (ranking == null) {
+            misses.increment();
+            return null;
+        }
+        if (System.nanoTime() - ranking.expiresAtNanos() > 0) {
+            rankings.remove(socialAccountId, ranking);
+            expired.increment();
+            return null;
+        }
+        hits.increment();
+        return ranking;
+    }
+
+    public Ranking put(UUID socialAccountId, Provider provider, List<OptimalTimeSlot> slots) {
+        int[] ranked = slots.stream()
+                .filter(slot -> isSchedulable(provider, slot))
+                .sorted(Comparator.comparingDouble(OptimalTimeSlot::getEngagementScore).reversed())
+                .mapToInt(slot -> EngagementAccumulator.slotOf(slot.getDayOfWeek(), slot.getHourOfDay()))
+                .toArray();
+
+        long ttl = ranked.length == 0 ? emptyTtlNanos : ttlNanos;
+        Ranking ranking = new Ranking(provider, ranked, System.currentTimeMillis(), System.nanoTime() + ttl);
+        rankings.put(socialAccountId, ranking);
+        return ranking;
+    }
+
+    /**
+     * Drops rankings of accounts that are no longer being looked up, which {@link #get} would
+     * otherwise never see expire.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void evictExpired() {
+        long now = System.nanoTime();
+        rankings.values().removeIf(ranking -> now - ranking.expiresAtNanos() > 0);
+    }
+
+    private static boolean isSchedulable(Provider provider, OptimalTimeSlot slot) {
+        if (provider != Provider.LINKEDIN) {
+            return true;
+        }
+        boolean isWeekday = slot.getDayOfWeek().getValue() <= 5;
+        boolean isBusinessHours = slot.getHourOfDay() >= 8 && slot.getHourOfDay() <= 18;
+        return isWeekday && isBusinessHours;
+    }
+
+    private double oldestAgeSeconds() {
+        long now = System.currentTimeMillis();
+        long nowNanos = System.nanoTime();
+        long oldest = now;
+        for (Ranking ranking : rankings.values()) {
+            if (nowNanos - ranking.expiresAtNanos() <= 0) {
+                oldest = Math.min(oldest, ranking.refreshedAtMillis());
+            }
+        }
+        return (now - oldest) / 1000.0;
+    }
+}
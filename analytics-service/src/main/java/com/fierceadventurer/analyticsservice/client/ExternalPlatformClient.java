@@ -2,8 +2,23 @@ package com.fierceadventurer.analyticsservice.client;
 
 import com.fierceadventurer.analyticsservice.dto.HistoricalPost;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ExternalPlatformClient {
     List<HistoricalPost> getHistoricalData(String accessToken) throws Exception;
+
+    /**
+     * Posts created strictly after {@code since}, or the full history when it is null.
+     * Clients that can page by date should override this to stop at the watermark.
+     */
+    default List<HistoricalPost> getHistoricalData(String accessToken, LocalDateTime since) throws Exception {
+        List<HistoricalPost> posts = getHistoricalData(accessToken);
+        if (since == null) {
+            return posts;
+        }
+        return posts.stream()
+                .filter(post -> post.getCreatedAt().isAfter(since))
+                .toList();
+    }
 }
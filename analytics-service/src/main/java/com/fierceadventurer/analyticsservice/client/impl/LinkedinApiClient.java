@@ -22,9 +22,10 @@ import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Slf4j
 @Component("linkedinApiClient")
@@ -40,15 +41,26 @@ public class LinkedinApiClient implements ExternalPlatformClient {
     @Value("${clients.linkedin.api-url:https://api.linkedin.com/v2}")
     private String linkedinApiUrl;
 
+    @Value("${clients.linkedin.page-size:50}")
+    private int pageSize;
+
+    @Value("${clients.linkedin.max-pages:100}")
+    private int maxPages;
+
     @Override
     public List<HistoricalPost> getHistoricalData(String accessToken) throws Exception {
-        log.info("Fetching historical data from LinkedIn...");
+        return getHistoricalData(accessToken, null);
+    }
+
+    @Override
+    public List<HistoricalPost> getHistoricalData(String accessToken, LocalDateTime since) throws Exception {
+        log.info("Fetching historical data from LinkedIn (since {})...", since);
 
         try {
             String userUrn = fetchUserUrn(accessToken);
             log.debug("Resolved Linkedin User URN: {}", userUrn);
 
-            return fetchUserPosts(accessToken , userUrn);
+            return fetchUserPosts(accessToken , userUrn, since);
         }
         catch (HttpClientErrorException e){
             log.error("Linkedin API Error: Status {}, Response: {}", e.getStatusCode(), e.getResponseBodyAsString());
@@ -95,48 +107,78 @@ public class LinkedinApiClient implements ExternalPlatformClient {
     }
 
 
-    private List<HistoricalPost> fetchUserPosts(String accessToken, String userUrn) {
+    /**
+     * Pages through the member's posts newest first. Stops at the first post at or before
+     * {@code since}, on a short page, or once {@code paging.total} is reached. A post published
+     * during the walk shifts the later pages down by one, so posts are collected by id and the
+     * ones pushed onto the next page are not returned twice.
+     */
+    private List<HistoricalPost> fetchUserPosts(String accessToken, String userUrn, LocalDateTime since) {
         String authorsParamValue = "List(" + userUrn + ")";
 
         String encodedAuthors = URLEncoder.encode(authorsParamValue , StandardCharsets.UTF_8);
 
-        String projection = "(elements*(created(time),socialDetail(totalSocialActivityCounts)))";
-
-        String url = String.format(
-                "%s/ugcPosts?q=authors&authors=%s&count=50&projection=%s",
-                linkedinApiUrl
-                ,encodedAuthors
-                ,projection
-        );
-
-        log.debug("Fetching LinkedIn posts from URL: {}", url);
+        String projection = "(paging,elements*(id,created(time),socialDetail(totalSocialActivityCounts)))";
 
         HttpHeaders headers = createHeaders(accessToken);
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        try{
-            ResponseEntity<LinkedInPostResponse> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    entity,
-                    LinkedInPostResponse.class
+        Map<String, HistoricalPost> postsById = new LinkedHashMap<>();
+        int start = 0;
+
+        for (int page = 0; page < maxPages; page++) {
+            String url = String.format(
+                    "%s/ugcPosts?q=authors&authors=%s&sortBy=CREATED&start=%d&count=%d&projection=%s",
+                    linkedinApiUrl
+                    ,encodedAuthors
+                    ,start
+                    ,pageSize
+                    ,projection
             );
 
-            if(response.getBody() == null || response.getBody().getElements() == null){
-                log.info("LinkedIn returned no posts for user: {}", userUrn);
-                return Collections.emptyList();
+            log.debug("Fetching LinkedIn posts from URL: {}", url);
+
+            LinkedInPostResponse body;
+            try{
+                body = restTemplate.exchange(
+                        url,
+                        HttpMethod.GET,
+                        entity,
+                        LinkedInPostResponse.class
+                ).getBody();
+            }
+            catch (HttpClientErrorException e){
+                log.error("LinkedIn API Error [{}]: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                throw new RuntimeException("Failed to fetch LinkedIn posts: " + e.getStatusCode());
             }
 
-            return response.getBody().getElements().stream()
-                    .map(this::mapToHistoricalPost)
-                    .collect(Collectors.toList());
-        }
-        catch (HttpClientErrorException e){
-            log.error("LinkedIn API Error [{}]: {}", e.getStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("Failed to fetch LinkedIn posts: " + e.getStatusCode());
-        }
+            if(body == null || body.getElements() == null || body.getElements().isEmpty()){
+                break;
+            }
 
+            boolean reachedWatermark = false;
+            for (LinkedInElement element : body.getElements()) {
+                HistoricalPost post = mapToHistoricalPost(element);
+                if (post == null) {
+                    continue;
+                }
+                if (since != null && !post.getCreatedAt().isAfter(since)) {
+                    reachedWatermark = true;
+                    continue;
+                }
+                postsById.putIfAbsent(
+                        post.getExternalPostId() != null ? post.getExternalPostId() : post.getCreatedAt().toString(), post);
+            }
+
+            start += body.getElements().size();
+            Integer total = body.getPaging() != null ? body.getPaging().getTotal() : null;
+            if (reachedWatermark || body.getElements().size() < pageSize || (total != null && start >= total)) {
+                break;
+            }
+        }
 
+        log.info("Fetched {} LinkedIn posts for user {}", postsById.size(), userUrn);
+        return new ArrayList<>(postsById.values());
     }
 
     private HttpHeaders createHeaders(String accessToken) {
@@ -147,24 +189,22 @@ public class LinkedinApiClient implements ExternalPlatformClient {
     }
 
     private HistoricalPost mapToHistoricalPost(LinkedInElement element) {
-        LocalDateTime createdAt;
-
-        if(element.getCreated() != null){
-            createdAt = LocalDateTime.ofInstant(
-                    Instant.ofEpochMilli(element.getCreated().getTime()),
-                    ZoneId.of("UTC")
-            );
-        }
-        else {
-            log.warn("Found LinkedIn post with missing creation time. Defaulting to NOW.");
-            createdAt = LocalDateTime.now(ZoneId.of("UTC"));
+        if(element.getCreated() == null){
+            log.warn("Skipping LinkedIn post with missing creation time.");
+            return null;
         }
 
+        LocalDateTime createdAt = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(element.getCreated().getTime()),
+                ZoneId.of("UTC")
+        );
+
         int weightedScore = 0;
+        LinkedInCounts counts = null;
 
         if(element.getSocialDetail() != null &&
                 element.getSocialDetail().getTotalSocialActivityCounts() != null){
-            LinkedInCounts counts = element.getSocialDetail().getTotalSocialActivityCounts();
+            counts = element.getSocialDetail().getTotalSocialActivityCounts();
 
             weightedScore = calculate(
                     counts.getNumLikes(),
@@ -173,7 +213,14 @@ public class LinkedinApiClient implements ExternalPlatformClient {
                     0
             );
         }
-        return new HistoricalPost(createdAt, weightedScore);
+        return new HistoricalPost(
+                createdAt,
+                weightedScore,
+                element.getId(),
+                counts != null ? counts.getNumLikes() : 0,
+                counts != null ? counts.getNumComments() : 0,
+                counts != null ? counts.getNumShares() : 0
+        );
     }
 
     private static int calculate(int likes , int comments , int shares , int impressions){
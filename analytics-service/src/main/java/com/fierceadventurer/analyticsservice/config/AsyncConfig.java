@@ -0,0 +1,21 @@
+package com.fierceadventurer.analyticsservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Virtual threads for analysis jobs, which spend most of their time waiting on provider
+     * APIs and the embedding model. Concurrency is bounded by AnalysisJobRunner's per-provider
+     * permits, not by the pool.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService analysisExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+}
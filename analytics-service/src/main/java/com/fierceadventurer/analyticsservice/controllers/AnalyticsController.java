@@ -1,14 +1,22 @@
 package com.fierceadventurer.analyticsservice.controllers;
 
 import com.fierceadventurer.analyticsservice.dto.AnalysisJobDto;
+import com.fierceadventurer.analyticsservice.dto.EngagementTrendPointDto;
+import com.fierceadventurer.analyticsservice.dto.NextBestTimeRequestDto;
 import com.fierceadventurer.analyticsservice.dto.NextBestTimeResponseDto;
+import com.fierceadventurer.analyticsservice.dto.NextBestTimesResponseDto;
 import com.fierceadventurer.analyticsservice.dto.OptimalTimeSlotDto;
+import com.fierceadventurer.analyticsservice.enums.MetricGranularity;
 import com.fierceadventurer.analyticsservice.service.AnalyticsService;
+import com.fierceadventurer.analyticsservice.service.PostMetricService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -20,6 +28,7 @@ import java.util.UUID;
 public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
+    private final PostMetricService postMetricService;
 
     @GetMapping("/{socialAccountId}/next-best-time")
     public ResponseEntity<NextBestTimeResponseDto> getNextBestTime(
@@ -28,6 +37,13 @@ public class AnalyticsController {
         return ResponseEntity.ok(nextBestTime);
     }
 
+    @PostMapping("/next-best-times")
+    public ResponseEntity<List<NextBestTimesResponseDto>> getNextBestTimes(
+            @RequestBody List<NextBestTimeRequestDto> requests) {
+        List<NextBestTimesResponseDto> nextBestTimes = analyticsService.findNextBestTimes(requests);
+        return ResponseEntity.ok(nextBestTimes);
+    }
+
     @GetMapping("/{socialAccountId}/job-status")
     public ResponseEntity<AnalysisJobDto> getAnalysisJobStatus(
             @PathVariable UUID socialAccountId) {
@@ -41,4 +57,13 @@ public class AnalyticsController {
         List<OptimalTimeSlotDto> timeSlots = analyticsService.getAllTimeSlots(socialAccountId);
         return ResponseEntity.ok(timeSlots);
     }
+
+    @GetMapping("/{socialAccountId}/engagement-trend")
+    public ResponseEntity<List<EngagementTrendPointDto>> getEngagementTrend(
+            @PathVariable UUID socialAccountId,
+            @RequestParam(defaultValue = "90") int days,
+            @RequestParam(defaultValue = "DAY") MetricGranularity granularity) {
+        List<EngagementTrendPointDto> trend = postMetricService.getEngagementTrend(socialAccountId, days, granularity);
+        return ResponseEntity.ok(trend);
+    }
 }
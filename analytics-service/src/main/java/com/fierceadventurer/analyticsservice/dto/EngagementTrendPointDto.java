@@ -0,0 +1,15 @@
+package com.fierceadventurer.analyticsservice.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class EngagementTrendPointDto {
+    private LocalDateTime bucketStart;
+    private int postCount;
+    private long likes;
+    private long comments;
+    private long shares;
+    private double engagement;
+}
@@ -10,4 +10,12 @@ import java.time.LocalDateTime;
 public class HistoricalPost {
     private LocalDateTime createdAt;
     private int engagementCount;
+    private String externalPostId;
+    private int likes;
+    private int comments;
+    private int shares;
+
+    public HistoricalPost(LocalDateTime createdAt, int engagementCount) {
+        this(createdAt, engagementCount, null, 0, 0, 0);
+    }
 }
@@ -0,0 +1,19 @@
+package com.fierceadventurer.analyticsservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NextBestTimeRequestDto {
+    /** Batch limits; post-service's copy of this DTO mirrors them, so keep the two in step. */
+    public static final int MAX_ACCOUNTS_PER_BATCH = 100;
+    public static final int MAX_COUNT = 50;
+
+    private UUID socialAccountId;
+    private int count;
+}
@@ -0,0 +1,17 @@
+package com.fierceadventurer.analyticsservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NextBestTimesResponseDto {
+    private UUID socialAccountId;
+    private List<LocalDateTime> nextBestTimes;
+}
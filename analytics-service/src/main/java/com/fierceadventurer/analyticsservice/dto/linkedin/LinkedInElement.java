@@ -6,6 +6,7 @@ import lombok.Data;
 @Data
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class LinkedInElement {
+    private String id;
     private LinkedInAuditFields created;
     private LinkedInSocialDetail socialDetail;
 }
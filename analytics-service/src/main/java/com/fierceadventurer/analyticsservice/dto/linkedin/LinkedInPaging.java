@@ -0,0 +1,12 @@
+package com.fierceadventurer.analyticsservice.dto.linkedin;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class LinkedInPaging {
+    private int start;
+    private int count;
+    private Integer total;
+}
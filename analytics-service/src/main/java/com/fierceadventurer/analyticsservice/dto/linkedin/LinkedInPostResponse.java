@@ -9,4 +9,5 @@ import java.util.List;
 @JsonIgnoreProperties(ignoreUnknown = true)
 public class LinkedInPostResponse {
     private List<LinkedInElement> elements;
+    private LinkedInPaging paging;
 }
@@ -15,7 +15,9 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
-@Table(name = "analysis_jobs")
+@Table(name = "analysis_jobs", indexes = {
+        @Index(name = "idx_analysis_jobs_claim", columnList = "provider, status, created_at")
+})
 @NoArgsConstructor
 public class AnalysisJob {
 
@@ -37,8 +39,27 @@ public class AnalysisJob {
     @Column(columnDefinition = "TEXT")
     private String lastError;
 
+    /**
+     * Set when a runner claims the job. A job still in progress after its lease has expired
+     * belongs to a runner that died and may be claimed again.
+     */
+    private LocalDateTime leaseExpiresAt;
+
+    /**
+     * Fencing token of the runner holding the lease. Renewals and the final status update are
+     * conditional on it, so a runner whose lease was taken over cannot overwrite the new owner.
+     */
+    private UUID leaseToken;
+
+    /**
+     * Creation time of the newest post already folded into the account's engagement
+     * aggregates. Later analyses fetch posts from one settle window before this, so recent
+     * posts are re-counted with the engagement they have gathered since.
+     */
+    private LocalDateTime historyWatermark;
+
     @CreationTimestamp
-    @Column(updatable = false)
+    @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
@@ -0,0 +1,46 @@
+package com.fierceadventurer.analyticsservice.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.DayOfWeek;
+import java.util.UUID;
+
+/**
+ * Running engagement totals for one weekday hour of an account, so each analysis only has to
+ * fold in the posts published since the last one.
+ */
+@Entity
+@Table(name = "engagement_aggregates", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_engagement_aggregates_slot",
+                columnNames = {"social_account_id", "day_of_week", "hour_of_day"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class EngagementAggregate {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "social_account_id", nullable = false, updatable = false)
+    private UUID socialAccountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false)
+    private DayOfWeek dayOfWeek;
+
+    @Column(name = "hour_of_day", nullable = false)
+    private int hourOfDay;
+
+    @Column(nullable = false)
+    private int postCount;
+
+    @Column(nullable = false)
+    private long engagementSum;
+
+    @Column(nullable = false)
+    private double engagementSquares;
+}
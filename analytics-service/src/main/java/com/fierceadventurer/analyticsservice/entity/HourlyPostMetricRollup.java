@@ -0,0 +1,14 @@
+package com.fierceadventurer.analyticsservice.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "post_metric_hourly", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_metric_hourly_bucket", columnNames = {"social_account_id", "bucket_start"})
+})
+@NoArgsConstructor
+public class HourlyPostMetricRollup extends PostMetricRollup {
+}
@@ -3,16 +3,22 @@ package com.fierceadventurer.analyticsservice.entity;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import org.hibernate.annotations.UpdateTimestamp;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "post_metrics")
+@Table(name = "post_metrics", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_metrics_account_post", columnNames = {"social_account_id", "external_post_id"})
+}, indexes = {
+        @Index(name = "idx_post_metrics_posted_at", columnList = "posted_at")
+})
+@Getter
+@Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -22,12 +28,13 @@ public class PostMetric {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @Column(nullable = false)
+    @Column(name = "social_account_id", nullable = false)
     private UUID socialAccountId;
 
-    @Column(nullable = false)
+    @Column(name = "external_post_id", nullable = false)
     private String externalPostId;
 
+    @Column(name = "posted_at")
     private LocalDateTime postedAt;
 
     private int likes;
@@ -0,0 +1,44 @@
+package com.fierceadventurer.analyticsservice.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Totals of the post metrics published in one bucket. Rows are only ever adjusted by deltas
+ * when metrics are upserted, never recomputed from post_metrics.
+ */
+@MappedSuperclass
+@Getter
+@Setter
+@NoArgsConstructor
+public abstract class PostMetricRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "social_account_id", nullable = false)
+    private UUID socialAccountId;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "post_count", nullable = false)
+    private int postCount;
+
+    @Column(nullable = false)
+    private long likes;
+
+    @Column(nullable = false)
+    private long comments;
+
+    @Column(nullable = false)
+    private long shares;
+
+    @Column(nullable = false)
+    private double engagement;
+}
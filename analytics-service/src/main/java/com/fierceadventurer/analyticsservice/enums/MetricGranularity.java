@@ -0,0 +1,6 @@
+package com.fierceadventurer.analyticsservice.enums;
+
+public enum MetricGranularity {
+    HOUR,
+    DAY
+}
@@ -2,9 +2,11 @@ package com.fierceadventurer.analyticsservice.mapper;
 
 import com.fierceadventurer.analyticsservice.dto.AccountCreatedEvent;
 import com.fierceadventurer.analyticsservice.dto.AnalysisJobDto;
+import com.fierceadventurer.analyticsservice.dto.EngagementTrendPointDto;
 import com.fierceadventurer.analyticsservice.dto.OptimalTimeSlotDto;
 import com.fierceadventurer.analyticsservice.entity.AnalysisJob;
 import com.fierceadventurer.analyticsservice.entity.OptimalTimeSlot;
+import com.fierceadventurer.analyticsservice.entity.PostMetricRollup;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -18,6 +20,9 @@ public interface AnalyticsMapper {
     @Mapping(target = "lastError", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "leaseExpiresAt", ignore = true)
+    @Mapping(target = "leaseToken", ignore = true)
+    @Mapping(target = "historyWatermark", ignore = true)
     AnalysisJob toEntity(AccountCreatedEvent event);
 
     AnalysisJobDto toDto(AnalysisJob job);
@@ -25,4 +30,6 @@ public interface AnalyticsMapper {
     OptimalTimeSlotDto toDto(OptimalTimeSlot slot);
 
     List<OptimalTimeSlotDto> toDtoList(List<OptimalTimeSlot> slots);
+
+    EngagementTrendPointDto toTrendPoint(PostMetricRollup rollup);
 }
@@ -3,8 +3,13 @@ package com.fierceadventurer.analyticsservice.repository;
 import com.fierceadventurer.analyticsservice.entity.AnalysisJob;
 import com.fierceadventurer.analyticsservice.enums.AnalysisStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,4 +19,65 @@ public interface AnalysisJobRepository extends JpaRepository<AnalysisJob, UUID>{
     Optional<AnalysisJob> findBySocialAccountId(UUID socialAccountId);
 
     Optional<AnalysisJob> findTopByStatusOrderByCreatedAtAsc(AnalysisStatus status);
+
+    /**
+     * Locks up to {@code limit} claimable jobs for one provider: pending ones, oldest first,
+     * plus in-progress ones whose lease has run out. Rows locked by another runner are
+     * skipped rather than waited on, so concurrent claimers never receive the same job.
+     */
+    @Query(value = """
+            SELECT * FROM analysis_jobs
+            WHERE provider = :provider
+              AND (status = 'PENDING'
+                   OR (status IN ('FETCHING_DATA', 'ANALYZING')
+                       AND (lease_expires_at IS NULL OR lease_expires_at < :now)))
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<AnalysisJob> lockClaimableJobs(@Param("provider") String provider,
+                                        @Param("now") LocalDateTime now,
+                                        @Param("limit") int limit);
+
+    /**
+     * Extends the lease only while the caller still holds it; 0 means another runner took over.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE analysis_jobs SET lease_expires_at = :leaseExpiresAt
+            WHERE job_id = :jobId AND lease_token = :leaseToken
+            """, nativeQuery = true)
+    int renewLease(@Param("jobId") UUID jobId,
+                   @Param("leaseToken") UUID leaseToken,
+                   @Param("leaseExpiresAt") LocalDateTime leaseExpiresAt);
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE analysis_jobs SET status = :status, updated_at = :now
+            WHERE job_id = :jobId AND lease_token = :leaseToken
+            """, nativeQuery = true)
+    int updateLeasedStatus(@Param("jobId") UUID jobId,
+                           @Param("leaseToken") UUID leaseToken,
+                           @Param("status") String status,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * Records the outcome and releases the lease, only while the caller still holds it.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE analysis_jobs
+            SET status = :status, last_error = :lastError, history_watermark = :historyWatermark,
+                lease_token = NULL, lease_expires_at = NULL, updated_at = :now
+            WHERE job_id = :jobId AND lease_token = :leaseToken
+            """, nativeQuery = true)
+    int finishLeasedJob(@Param("jobId") UUID jobId,
+                        @Param("leaseToken") UUID leaseToken,
+                        @Param("status") String status,
+                        @Param("lastError") String lastError,
+                        @Param("historyWatermark") LocalDateTime historyWatermark,
+                        @Param("now") LocalDateTime now);
 }
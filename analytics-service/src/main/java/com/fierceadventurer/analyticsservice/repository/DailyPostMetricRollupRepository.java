@@ -0,0 +1,38 @@
+package com.fierceadventurer.analyticsservice.repository;
+
+import com.fierceadventurer.analyticsservice.entity.DailyPostMetricRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface DailyPostMetricRollupRepository extends JpaRepository<DailyPostMetricRollup, UUID> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_metric_daily (id, social_account_id, bucket_start, post_count, likes, comments, shares, engagement)
+            VALUES (gen_random_uuid(), :accountId, :bucketStart, :postCount, :likes, :comments, :shares, :engagement)
+            ON CONFLICT (social_account_id, bucket_start) DO UPDATE SET
+                post_count = post_metric_daily.post_count + EXCLUDED.post_count,
+                likes = post_metric_daily.likes + EXCLUDED.likes,
+                comments = post_metric_daily.comments + EXCLUDED.comments,
+                shares = post_metric_daily.shares + EXCLUDED.shares,
+                engagement = post_metric_daily.engagement + EXCLUDED.engagement
+            """, nativeQuery = true)
+    void addToBucket(@Param("accountId") UUID accountId,
+                     @Param("bucketStart") LocalDateTime bucketStart,
+                     @Param("postCount") int postCount,
+                     @Param("likes") long likes,
+                     @Param("comments") long comments,
+                     @Param("shares") long shares,
+                     @Param("engagement") double engagement);
+
+    List<DailyPostMetricRollup> findBySocialAccountIdAndBucketStartGreaterThanEqualOrderByBucketStart(
+            UUID socialAccountId, LocalDateTime from);
+}
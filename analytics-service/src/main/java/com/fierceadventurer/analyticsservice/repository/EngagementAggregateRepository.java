@@ -0,0 +1,15 @@
+package com.fierceadventurer.analyticsservice.repository;
+
+import com.fierceadventurer.analyticsservice.entity.EngagementAggregate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface EngagementAggregateRepository extends JpaRepository<EngagementAggregate, UUID> {
+    List<EngagementAggregate> findBySocialAccountId(UUID socialAccountId);
+
+    void deleteAllBySocialAccountId(UUID socialAccountId);
+}
@@ -0,0 +1,44 @@
+package com.fierceadventurer.analyticsservice.repository;
+
+import com.fierceadventurer.analyticsservice.entity.HourlyPostMetricRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface HourlyPostMetricRollupRepository extends JpaRepository<HourlyPostMetricRollup, UUID> {
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_metric_hourly (id, social_account_id, bucket_start, post_count, likes, comments, shares, engagement)
+            VALUES (gen_random_uuid(), :accountId, :bucketStart, :postCount, :likes, :comments, :shares, :engagement)
+            ON CONFLICT (social_account_id, bucket_start) DO UPDATE SET
+                post_count = post_metric_hourly.post_count + EXCLUDED.post_count,
+                likes = post_metric_hourly.likes + EXCLUDED.likes,
+                comments = post_metric_hourly.comments + EXCLUDED.comments,
+                shares = post_metric_hourly.shares + EXCLUDED.shares,
+                engagement = post_metric_hourly.engagement + EXCLUDED.engagement
+            """, nativeQuery = true)
+    void addToBucket(@Param("accountId") UUID accountId,
+                     @Param("bucketStart") LocalDateTime bucketStart,
+                     @Param("postCount") int postCount,
+                     @Param("likes") long likes,
+                     @Param("comments") long comments,
+                     @Param("shares") long shares,
+                     @Param("engagement") double engagement);
+
+    List<HourlyPostMetricRollup> findBySocialAccountIdAndBucketStartGreaterThanEqualOrderByBucketStart(
+            UUID socialAccountId, LocalDateTime from);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM HourlyPostMetricRollup r WHERE r.bucketStart < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,31 @@
+package com.fierceadventurer.analyticsservice.repository;
+
+import com.fierceadventurer.analyticsservice.entity.PostMetric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface PostMetricRepository extends JpaRepository<PostMetric, UUID> {
+    List<PostMetric> findBySocialAccountIdAndExternalPostIdIn(UUID socialAccountId, Collection<String> externalPostIds);
+
+    /**
+     * Deletes at most {@code limit} rows posted before the cutoff, each call in its own short
+     * transaction so pruning never holds locks on a large range.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM post_metrics
+            WHERE id IN (SELECT id FROM post_metrics WHERE posted_at < :cutoff LIMIT :limit)
+            """, nativeQuery = true)
+    int deleteBatchPostedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -1,27 +1,33 @@
 package com.fierceadventurer.analyticsservice.service;
 
+import com.fierceadventurer.analyticsservice.cache.NextBestTimeCache;
 import com.fierceadventurer.analyticsservice.client.ExternalPlatformClient;
 import com.fierceadventurer.analyticsservice.client.SocialAccountClient;
 import com.fierceadventurer.analyticsservice.client.SocialMediaClientFactory;
 import com.fierceadventurer.analyticsservice.dto.HistoricalPost;
 import com.fierceadventurer.analyticsservice.entity.AnalysisJob;
+import com.fierceadventurer.analyticsservice.entity.EngagementAggregate;
 import com.fierceadventurer.analyticsservice.entity.OptimalTimeSlot;
 import com.fierceadventurer.analyticsservice.enums.AnalysisStatus;
 import com.fierceadventurer.analyticsservice.enums.Provider;
 import com.fierceadventurer.analyticsservice.repository.AnalysisJobRepository;
+import com.fierceadventurer.analyticsservice.repository.EngagementAggregateRepository;
 import com.fierceadventurer.analyticsservice.repository.OptimalTimeSlotRepository;
-import jakarta.persistence.criteria.CriteriaBuilder;
-import jakarta.transaction.Transactional;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 
 @Service
 @Slf4j
@@ -29,41 +35,190 @@ import java.util.stream.Collectors;
 public class AnalysisJobRunner {
     private final AnalysisJobRepository analysisJobRepository;
     private final OptimalTimeSlotRepository  optimalTimeSlotRepository;
+    private final EngagementAggregateRepository engagementAggregateRepository;
     private final SocialAccountClient socialAccountClient;
     private final SocialMediaClientFactory clientFactory;
     private final TransactionTemplate transactionTemplate;
     private final EmbeddingService embeddingService;
+    private final PostMetricService postMetricService;
+    private final NextBestTimeCache nextBestTimeCache;
+    private final Environment environment;
+    private final ExecutorService analysisExecutor;
 
+    @Value("${analysis.scoring.confidence-weighted:false}")
+    private boolean confidenceWeighted;
 
-    @Scheduled(fixedDelay = 5 , timeUnit = TimeUnit.MINUTES)
+    @Value("${analysis.runner.settle-window:7d}")
+    private Duration settleWindow;
+
+    @Value("${analysis.runner.batch-size:10}")
+    private int batchSize;
+
+    @Value("${analysis.runner.lease:15m}")
+    private Duration leaseDuration;
+
+    @Value("${analysis.runner.poll-interval-ms:1000}")
+    private long pollIntervalMillis;
+
+    @Value("${analysis.runner.max-idle-delay-ms:300000}")
+    private long maxIdleDelayMillis;
+
+    @Value("${analysis.runner.concurrency.default:4}")
+    private int defaultConcurrency;
+
+    private final Map<Provider, Semaphore> providerPermits = new EnumMap<>(Provider.class);
+    private final Map<UUID, UUID> heldLeases = new ConcurrentHashMap<>();
+
+    private volatile long idleDelayMillis;
+    private volatile long nextPollAt;
+
+    @PostConstruct
+    void initProviderPermits() {
+        for (Provider provider : Provider.values()) {
+            int limit = environment.getProperty(
+                    "analysis.runner.concurrency." + provider.name().toLowerCase(), Integer.class, defaultConcurrency);
+            providerPermits.put(provider, new Semaphore(Math.max(1, limit)));
+        }
+    }
+
+    /**
+     * Claims as many pending jobs per provider as that provider has free permits and hands them
+     * to the worker pool. While jobs keep turning up the runner polls every tick; once the queue
+     * is empty it backs off exponentially up to {@code analysis.runner.max-idle-delay-ms}.
+     */
+    @Scheduled(fixedDelayString = "${analysis.runner.poll-interval-ms:1000}")
     public void findAndProcessPendingJobs() {
-        log.info("Running scheduled job runner....");
-        Optional<AnalysisJob> pendingJobs = analysisJobRepository.findTopByStatusOrderByCreatedAtAsc(AnalysisStatus.PENDING);
-        if(pendingJobs.isEmpty()) {
-            log.info("No pending analysis jobs found.");
+        long now = System.currentTimeMillis();
+        if (now < nextPollAt) {
             return;
         }
 
-        AnalysisJob job = pendingJobs.get();
-        job.setStatus(AnalysisStatus.FETCHING_DATA);
-        analysisJobRepository.save(job);
+        int claimed = 0;
+        boolean saturated = false;
+        for (Provider provider : Provider.values()) {
+            Semaphore permits = providerPermits.get(provider);
+            int reserved = 0;
+            while (reserved < batchSize && permits.tryAcquire()) {
+                reserved++;
+            }
+            if (reserved == 0) {
+                saturated = true;
+                continue;
+            }
+
+            List<AnalysisJob> jobs;
+            try {
+                jobs = claimJobs(provider, reserved);
+            }
+            catch (Exception e) {
+                permits.release(reserved);
+                log.error("Failed to claim {} analysis jobs: {}", provider, e.getMessage());
+                continue;
+            }
+            permits.release(reserved - jobs.size());
+
+            for (AnalysisJob job : jobs) {
+                analysisExecutor.execute(() -> {
+                    try {
+                        runJob(job);
+                    }
+                    finally {
+                        permits.release();
+                    }
+                });
+            }
+            claimed += jobs.size();
+        }
+
+        if (claimed > 0 || saturated) {
+            if (claimed > 0) {
+                log.info("Claimed {} analysis jobs.", claimed);
+            }
+            idleDelayMillis = 0;
+            nextPollAt = 0;
+        }
+        else {
+            idleDelayMillis = idleDelayMillis == 0
+                    ? pollIntervalMillis
+                    : Math.min(idleDelayMillis * 2, maxIdleDelayMillis);
+            nextPollAt = now + idleDelayMillis;
+            log.debug("No pending analysis jobs found. Next poll in {} ms.", idleDelayMillis);
+        }
+    }
+
+    /**
+     * Ends any idle back-off so a newly queued job is claimed on the next tick.
+     */
+    public void wakeUp() {
+        idleDelayMillis = 0;
+        nextPollAt = 0;
+    }
+
+    private List<AnalysisJob> claimJobs(Provider provider, int limit) {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<AnalysisJob> jobs = analysisJobRepository.lockClaimableJobs(provider.name(), now, limit);
+            for (AnalysisJob job : jobs) {
+                job.setStatus(AnalysisStatus.FETCHING_DATA);
+                job.setLeaseExpiresAt(now.plus(leaseDuration));
+                job.setLeaseToken(UUID.randomUUID());
+            }
+            return analysisJobRepository.saveAll(jobs);
+        });
+    }
+
+    /**
+     * Keeps the leases of running jobs alive, so a long analysis is not reclaimed while it is
+     * still making progress. A lease that can no longer be renewed has been taken over.
+     */
+    @Scheduled(fixedDelayString = "${analysis.runner.lease-renewal-interval-ms:60000}")
+    public void renewLeases() {
+        LocalDateTime leaseExpiresAt = LocalDateTime.now().plus(leaseDuration);
+        heldLeases.forEach((jobId, leaseToken) -> {
+            try {
+                if (analysisJobRepository.renewLease(jobId, leaseToken, leaseExpiresAt) == 0) {
+                    log.warn("Lease on analysis job {} is no longer held by this runner.", jobId);
+                    heldLeases.remove(jobId, leaseToken);
+                }
+            }
+            catch (Exception e) {
+                log.error("Failed to renew lease on analysis job {}: {}", jobId, e.getMessage());
+            }
+        });
+    }
 
+    private void runJob(AnalysisJob job) {
+        heldLeases.put(job.getJobId(), job.getLeaseToken());
         try{
             performAnalysis(job);
-
-            job.setStatus(AnalysisStatus.COMPLETED);
-            analysisJobRepository.save(job);
             log.info("Successfully completed analysis for job: {}" , job.getJobId());
         }
+        catch (LeaseLostException e){
+            log.warn("Lost the lease on analysis job {}; discarding this run.", job.getJobId());
+        }
         catch (Exception e){
             log.error("Failed to process analysis job {}: {}" , job.getJobId(), e.getMessage());
-            job.setStatus(AnalysisStatus.FAILED);
             String errorMessage = e.getMessage() != null ? e.getMessage() : "Unknown Error";
-            job.setLastError(errorMessage.substring(0 , Math.min(errorMessage.length() , 1000)));
-            analysisJobRepository.save(job);
+            boolean recorded = finishJob(job, AnalysisStatus.FAILED,
+                    errorMessage.substring(0 , Math.min(errorMessage.length() , 1000)), job.getHistoryWatermark());
+            if (!recorded) {
+                log.warn("Lost the lease on analysis job {}; discarding its failure.", job.getJobId());
+            }
+        }
+        finally {
+            heldLeases.remove(job.getJobId());
         }
     }
 
+    /**
+     * Records the outcome and releases the lease in one conditional update. Returns false, and
+     * writes nothing, when another runner has claimed the job since.
+     */
+    private boolean finishJob(AnalysisJob job, AnalysisStatus status, String lastError, LocalDateTime historyWatermark) {
+        return analysisJobRepository.finishLeasedJob(job.getJobId(), job.getLeaseToken(), status.name(),
+                lastError, historyWatermark, LocalDateTime.now()) == 1;
+    }
+
     public void performAnalysis(AnalysisJob job) throws Exception{
         log.info("Starting analysis for job: {} (Provider: {})" , job.getJobId(), job.getProvider());
 
@@ -72,19 +227,57 @@ public class AnalysisJobRunner {
         Provider provider = job.getProvider();
         ExternalPlatformClient apiClient = clientFactory.getClient(provider);
 
-        List<HistoricalPost> posts = apiClient.getHistoricalData(accessToken);
+        // Posts keep collecting engagement for a while after publishing, so the fetch reaches back
+        // over the settle window and re-counts those posts with their current numbers.
+        LocalDateTime since = job.getHistoryWatermark() == null ? null : job.getHistoryWatermark().minus(settleWindow);
+        List<HistoricalPost> posts = apiClient.getHistoricalData(accessToken, since);
 
         if(posts.isEmpty()) {
-            log.warn("No historical posts found for account {}. Skipping analysis." , job.getSocialAccountId());
+            log.warn("No new posts found for account {} since {}. Skipping analysis." ,
+                    job.getSocialAccountId(), since);
+            if (!finishJob(job, AnalysisStatus.COMPLETED, null, job.getHistoryWatermark())) {
+                throw new LeaseLostException();
+            }
             return;
         }
 
-        job.setStatus(AnalysisStatus.ANALYZING);
-        analysisJobRepository.save(job);
+        if (analysisJobRepository.updateLeasedStatus(job.getJobId(), job.getLeaseToken(),
+                AnalysisStatus.ANALYZING.name(), LocalDateTime.now()) == 0) {
+            throw new LeaseLostException();
+        }
+
+        LocalDateTime watermark = job.getHistoryWatermark();
+        for (HistoricalPost post : posts) {
+            if (watermark == null || post.getCreatedAt().isAfter(watermark)) {
+                watermark = post.getCreatedAt();
+            }
+        }
+        LocalDateTime newWatermark = watermark;
 
-        List<OptimalTimeSlot> newTimeSlots = calculateScores(job.getSocialAccountId() , posts);
+        // The lease check runs first, so its row lock also keeps the job from being reclaimed
+        // until the results are committed; losing the lease rolls everything back. Aggregates are
+        // read under that lock and every post already recorded has its stored contribution taken
+        // back before the fetched one is added, so re-fetched posts are never counted twice.
+        List<OptimalTimeSlot> newTimeSlots = transactionTemplate.execute(status -> {
+            if (!finishJob(job, AnalysisStatus.COMPLETED, null, newWatermark)) {
+                throw new LeaseLostException();
+            }
+            EngagementAccumulator accumulator = loadAggregates(job.getSocialAccountId());
+            for (HistoricalPost recorded : postMetricService.findRecorded(job.getSocialAccountId(), posts)) {
+                accumulator.remove(recorded.getCreatedAt(), recorded.getEngagementCount());
+            }
+            for (HistoricalPost post : posts) {
+                accumulator.add(post.getCreatedAt(), post.getEngagementCount());
+            }
 
-        saveOptimalSlots(job.getSocialAccountId() , newTimeSlots);
+            List<OptimalTimeSlot> timeSlots = calculateScores(job.getSocialAccountId(), accumulator);
+            saveAggregates(job.getSocialAccountId(), accumulator);
+            saveOptimalSlots(job.getSocialAccountId() , timeSlots);
+            postMetricService.recordMetrics(job.getSocialAccountId(), posts);
+            return timeSlots;
+        });
+        job.setHistoryWatermark(newWatermark);
+        nextBestTimeCache.put(job.getSocialAccountId(), job.getProvider(), newTimeSlots);
 
         try{
             log.info("Ingesting {} posts into vector Database for RAG...", posts.size());
@@ -95,59 +288,64 @@ public class AnalysisJobRunner {
         }
     }
 
-    private List<OptimalTimeSlot> calculateScores(UUID socialAccountId, List<HistoricalPost> posts){
-
-        Map<DayOfWeek , Map<Integer, List<Integer>>> engagementBySlot = new EnumMap<>(DayOfWeek.class);
-
-        for(HistoricalPost post : posts){
-            DayOfWeek day = post.getCreatedAt().getDayOfWeek();
-            int hour = post.getCreatedAt().getHour();
-
-            engagementBySlot
-                    .computeIfAbsent(day, k -> new HashMap<>())
-                    .computeIfAbsent(hour, k -> new ArrayList<>())
-                    .add(post.getEngagementCount());
+    private List<OptimalTimeSlot> calculateScores(UUID socialAccountId, EngagementAccumulator accumulator){
+        double[] scores = accumulator.normalizedScores(confidenceWeighted);
 
+        List<OptimalTimeSlot> slots = new ArrayList<>();
+        for(int index = 0; index < EngagementAccumulator.SLOTS; index++){
+            if(scores[index] <= 0.1){
+                continue;
+            }
+            OptimalTimeSlot slot = new OptimalTimeSlot();
+            slot.setSocialAccountId(socialAccountId);
+            slot.setDayOfWeek(EngagementAccumulator.dayOf(index));
+            slot.setHourOfDay(EngagementAccumulator.hourOf(index));
+            slot.setEngagementScore(scores[index]);
+            slots.add(slot);
         }
+        return slots;
+    }
 
-        Map<OptimalTimeSlot, Double> slotAverages = new HashMap<>();
-        double maxAverage = 0.0;
-
-        for(Map.Entry<DayOfWeek , Map<Integer, List<Integer>>> dayEntry : engagementBySlot.entrySet()){
-            for(Map.Entry<Integer, List<Integer>> hourEntry : dayEntry.getValue().entrySet()){
-
-                double average = hourEntry.getValue().stream()
-                        .mapToInt(Integer::intValue)
-                        .average().orElse(0.0);
-
-                if(average > maxAverage){
-                    maxAverage = average;
-                }
+    private EngagementAccumulator loadAggregates(UUID socialAccountId) {
+        EngagementAccumulator accumulator = new EngagementAccumulator();
+        for (EngagementAggregate aggregate : engagementAggregateRepository.findBySocialAccountId(socialAccountId)) {
+            accumulator.merge(
+                    EngagementAccumulator.slotOf(aggregate.getDayOfWeek(), aggregate.getHourOfDay()),
+                    aggregate.getPostCount(),
+                    aggregate.getEngagementSum(),
+                    aggregate.getEngagementSquares());
+        }
+        return accumulator;
+    }
 
-                OptimalTimeSlot slot = new OptimalTimeSlot();
-                slot.setSocialAccountId(socialAccountId);
-                slot.setDayOfWeek(dayEntry.getKey());
-                slot.setHourOfDay(hourEntry.getKey());
-                slotAverages.put(slot, average);
+    private void saveAggregates(UUID socialAccountId, EngagementAccumulator accumulator) {
+        List<EngagementAggregate> aggregates = new ArrayList<>();
+        for (int index = 0; index < EngagementAccumulator.SLOTS; index++) {
+            if (accumulator.count(index) == 0) {
+                continue;
             }
+            EngagementAggregate aggregate = new EngagementAggregate();
+            aggregate.setSocialAccountId(socialAccountId);
+            aggregate.setDayOfWeek(EngagementAccumulator.dayOf(index));
+            aggregate.setHourOfDay(EngagementAccumulator.hourOf(index));
+            aggregate.setPostCount(accumulator.count(index));
+            aggregate.setEngagementSum(accumulator.sum(index));
+            aggregate.setEngagementSquares(accumulator.sumOfSquares(index));
+            aggregates.add(aggregate);
         }
-
-        final double finalMaxAverage = maxAverage;
-        return slotAverages.entrySet().stream()
-                .map(entry -> {
-                    OptimalTimeSlot slot = entry.getKey();
-                    double normalizedScore = (finalMaxAverage > 0 ) ? (entry.getValue() /  finalMaxAverage) : 0.0 ;
-                    slot.setEngagementScore(normalizedScore);
-                    return slot;
-                })
-                .filter(slot -> slot.getEngagementScore() > 0.1)
-                .collect(Collectors.toList());
-
+        engagementAggregateRepository.deleteAllBySocialAccountId(socialAccountId);
+        engagementAggregateRepository.flush();
+        engagementAggregateRepository.saveAll(aggregates);
     }
 
-    @Transactional
-    protected void saveOptimalSlots(UUID socialAccountId, List<OptimalTimeSlot> newTimeSlots) {
+    private void saveOptimalSlots(UUID socialAccountId, List<OptimalTimeSlot> newTimeSlots) {
         optimalTimeSlotRepository.deleteAllBySocialAccountId(socialAccountId);
         optimalTimeSlotRepository.saveAll(newTimeSlots);
     }
+
+    private static final class LeaseLostException extends RuntimeException {
+        private LeaseLostException() {
+            super("Analysis job lease was taken over by another runner");
+        }
+    }
 }
@@ -1,7 +1,9 @@
 package com.fierceadventurer.analyticsservice.service;
 
 import com.fierceadventurer.analyticsservice.dto.AnalysisJobDto;
+import com.fierceadventurer.analyticsservice.dto.NextBestTimeRequestDto;
 import com.fierceadventurer.analyticsservice.dto.NextBestTimeResponseDto;
+import com.fierceadventurer.analyticsservice.dto.NextBestTimesResponseDto;
 import com.fierceadventurer.analyticsservice.dto.OptimalTimeSlotDto;
 import com.fierceadventurer.analyticsservice.entity.AnalysisJob;
 import com.fierceadventurer.analyticsservice.entity.OptimalTimeSlot;
@@ -13,6 +15,8 @@ public interface AnalyticsService {
 
     NextBestTimeResponseDto findNextBestTime(UUID socialAccountId);
 
+    List<NextBestTimesResponseDto> findNextBestTimes(List<NextBestTimeRequestDto> requests);
+
     AnalysisJobDto getAnalysisJobStatus(UUID socialAccountId);
 
     List<OptimalTimeSlotDto> getAllTimeSlots(UUID socialAccountId);
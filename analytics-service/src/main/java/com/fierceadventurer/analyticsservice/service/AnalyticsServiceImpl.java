@@ -1,7 +1,10 @@
 package com.fierceadventurer.analyticsservice.service;
 
+import com.fierceadventurer.analyticsservice.cache.NextBestTimeCache;
 import com.fierceadventurer.analyticsservice.dto.AnalysisJobDto;
+import com.fierceadventurer.analyticsservice.dto.NextBestTimeRequestDto;
 import com.fierceadventurer.analyticsservice.dto.NextBestTimeResponseDto;
+import com.fierceadventurer.analyticsservice.dto.NextBestTimesResponseDto;
 import com.fierceadventurer.analyticsservice.dto.OptimalTimeSlotDto;
 import com.fierceadventurer.analyticsservice.entity.AnalysisJob;
 import com.fierceadventurer.analyticsservice.entity.OptimalTimeSlot;
@@ -13,15 +16,20 @@ import com.fierceadventurer.analyticsservice.repository.OptimalTimeSlotRepositor
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -32,13 +40,85 @@ public class AnalyticsServiceImpl implements AnalyticsService {
     private final AnalysisJobRepository analysisJobRepository;
     private final AnalyticsMapper analyticsMapper;
     private final AnalysisJobRunner analysisJobRunner;
+    private final NextBestTimeCache nextBestTimeCache;
     private static final int MINIMUM_SCHEDULING_DELAY_MINUTES = 30;
 
 
+    /**
+     * Answers from the cached slot ranking, so the common path never touches the database or
+     * holds a connection. On a miss the ranking is loaded once. An account that has not been
+     * analysed yet gets the provider fallback at once, while its job is left to the runner.
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public NextBestTimeResponseDto findNextBestTime(UUID socialAccountId) {
-        log.info("Calculating next best time for social account {}", socialAccountId);
+        List<LocalDateTime> upcoming = upcomingSlots(socialAccountId, LocalDateTime.now(), 1);
+        return new NextBestTimeResponseDto(upcoming.get(0));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<NextBestTimesResponseDto> findNextBestTimes(List<NextBestTimeRequestDto> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > NextBestTimeRequestDto.MAX_ACCOUNTS_PER_BATCH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Between 1 and " + NextBestTimeRequestDto.MAX_ACCOUNTS_PER_BATCH + " accounts may be requested at once");
+        }
+
+        Map<UUID, Integer> counts = new LinkedHashMap<>();
+        for (NextBestTimeRequestDto request : requests) {
+            if (request.getSocialAccountId() == null || request.getCount() < 1 || request.getCount() > NextBestTimeRequestDto.MAX_COUNT) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "Each request needs a socialAccountId and a count between 1 and " + NextBestTimeRequestDto.MAX_COUNT);
+            }
+            counts.merge(request.getSocialAccountId(), request.getCount(), Math::max);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<NextBestTimesResponseDto> responses = new ArrayList<>(counts.size());
+        counts.forEach((socialAccountId, count) -> responses.add(
+                new NextBestTimesResponseDto(socialAccountId, upcomingSlots(socialAccountId, now, count))));
+        return responses;
+    }
+
+    /**
+     * The account's next {@code count} distinct slots in chronological order. Slots are taken
+     * best first: every ranked slot's next occurrence past the scheduling buffer, then the
+     * same ranking again one week later, and so on, so the first pick always matches the
+     * single next-best-time answer.
+     */
+    private List<LocalDateTime> upcomingSlots(UUID socialAccountId, LocalDateTime now, int count) {
+        NextBestTimeCache.Ranking ranking = nextBestTimeCache.get(socialAccountId);
+        if (ranking == null) {
+            ranking = loadRanking(socialAccountId);
+        }
+
+        if(ranking.isEmpty()) {
+            log.debug("No optimal slot found for social account {}. Falling back ...", socialAccountId);
+            return generateFallbackTimes(ranking.provider(), now, count);
+        }
+
+        LocalDateTime earlistAllowedTime = now.plusMinutes(MINIMUM_SCHEDULING_DELAY_MINUTES);
+        int ranked = ranking.slots().length;
+        LocalDateTime[] occurrences = new LocalDateTime[ranked];
+        for (int rank = 0; rank < ranked; rank++) {
+            occurrences[rank] = calculateNextOccurrence(now, ranking.dayOf(rank), ranking.hourOf(rank));
+        }
+
+        List<LocalDateTime> upcoming = new ArrayList<>(count);
+        for (int week = 0; upcoming.size() < count; week++) {
+            for (int rank = 0; rank < ranked && upcoming.size() < count; rank++) {
+                LocalDateTime candidate = occurrences[rank].plusWeeks(week);
+                if (candidate.isAfter(earlistAllowedTime)) {
+                    upcoming.add(candidate);
+                }
+            }
+        }
+        upcoming.sort(null);
+        return upcoming;
+    }
+
+    private NextBestTimeCache.Ranking loadRanking(UUID socialAccountId) {
+        log.info("Loading slot ranking for social account {}", socialAccountId);
 
         AnalysisJob job = analysisJobRepository.findBySocialAccountId(socialAccountId)
                 .orElseGet(()-> {
@@ -60,73 +140,34 @@ public class AnalyticsServiceImpl implements AnalyticsService {
         List<OptimalTimeSlot> slots = optimalTimeSlotRepository.
                 findBySocialAccountIdOrderByEngagementScoreDesc(socialAccountId);
 
-        if(slots.isEmpty()){
-            log.info("No slots found. Triggering immediate analysis for job {}", job.getJobId());
-            try{
-                analysisJobRunner.performAnalysis(job);
-
-                slots = optimalTimeSlotRepository.findBySocialAccountIdOrderByEngagementScoreDesc(socialAccountId);
-
-                log.info("Immediate analysis complete. Found {} slots.", slots.size());
-
-            } catch (Exception e) {
-                log.error("Immediate analysis failed: {}", e.getMessage());
-            }
-        }
-        if(job.getProvider() == Provider.LINKEDIN){
-            slots = filterForBusinessHours(slots);
-        }
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime earlistAllowedTime = now.plusMinutes(MINIMUM_SCHEDULING_DELAY_MINUTES);
-
-        if(slots.isEmpty()) {
-            log.warn("No optimal slot found for social account {}. Falling back ...", socialAccountId);
-            return generateFallbackTime(job.getProvider(), now);
+        if(slots.isEmpty() && job.getStatus() == AnalysisStatus.PENDING){
+            log.info("No slots found. Analysis for job {} queued.", job.getJobId());
+            analysisJobRunner.wakeUp();
         }
-
-        for (OptimalTimeSlot slot : slots) {
-            LocalDateTime nextSlotDateTime = calculateNextOccurrence(now, slot.getDayOfWeek(), slot.getHourOfDay());
-
-            if(nextSlotDateTime.isAfter(earlistAllowedTime)){
-                log.info("Found best slot for account {}", socialAccountId, nextSlotDateTime);
-                return new NextBestTimeResponseDto(nextSlotDateTime);
-            }
-        }
-
-        OptimalTimeSlot bestSlot = slots.get(0);
-        LocalDateTime nextWeekBestSlot = calculateNextOccurrence(now.plusWeeks(1)
-                ,bestSlot.getDayOfWeek(), bestSlot.getHourOfDay());
-
-        if(!nextWeekBestSlot.isAfter(earlistAllowedTime)){
-            nextWeekBestSlot = nextWeekBestSlot.plusWeeks(1);
-        }
-        log.info("All optimal slots are within the buffer. Scheduling for next week at best slot: {}", nextWeekBestSlot);
-        return new NextBestTimeResponseDto(nextWeekBestSlot);
+        return nextBestTimeCache.put(socialAccountId, job.getProvider(), slots);
     }
 
-    private NextBestTimeResponseDto generateFallbackTime(Provider provider, LocalDateTime now) {
+    private List<LocalDateTime> generateFallbackTimes(Provider provider, LocalDateTime now, int count) {
+        List<LocalDateTime> fallbacks = new ArrayList<>(count);
         if(provider == Provider.LINKEDIN){
             LocalDateTime candidate = now.withHour(10).withMinute(0).withSecond(0).withNano(0);
 
             if(now.getHour() >= 10) candidate = candidate.plusDays(1);
 
-            while (candidate.getDayOfWeek() == DayOfWeek.SATURDAY || candidate.getDayOfWeek() == DayOfWeek.SUNDAY){
+            while (fallbacks.size() < count) {
+                while (candidate.getDayOfWeek() == DayOfWeek.SATURDAY || candidate.getDayOfWeek() == DayOfWeek.SUNDAY){
+                    candidate = candidate.plusDays(1);
+                }
+                fallbacks.add(candidate);
                 candidate = candidate.plusDays(1);
             }
-            return new NextBestTimeResponseDto(candidate);
+            return fallbacks;
         }
 
-        return new NextBestTimeResponseDto(now.plusHours(1));
-    }
-
-    private List<OptimalTimeSlot> filterForBusinessHours(List<OptimalTimeSlot> slots) {
-        return slots.stream()
-                .filter(slot -> {
-                    boolean isWeekday = slot.getDayOfWeek().getValue() <= 5;
-                    boolean isBusinessHours = slot.getHourOfDay() >= 8 && slot.getHourOfDay() <= 18;
-                    return isWeekday && isBusinessHours;
-                })
-                .collect(Collectors.toList());
+        for (int i = 1; i <= count; i++) {
+            fallbacks.add(now.plusHours(i));
+        }
+        return fallbacks;
     }
 
     private LocalDateTime calculateNextOccurrence(LocalDateTime now, DayOfWeek slotDay, int slotHour) {
@@ -0,0 +1,155 @@
+package com.fierceadventurer.analyticsservice.service;
+
+import com.fierceadventurer.analyticsservice.dto.HistoricalPost;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Fixed 7x24 grid of engagement totals (count, sum and sum of squares per weekday hour),
+ * filled in a single pass over the historical posts without boxing.
+ */
+public final class EngagementAccumulator {
+    public static final int HOURS_PER_DAY = 24;
+    public static final int SLOTS = 7 * HOURS_PER_DAY;
+
+    private final int[] counts = new int[SLOTS];
+    private final long[] sums = new long[SLOTS];
+    private final double[] sumsOfSquares = new double[SLOTS];
+
+    public static EngagementAccumulator of(List<HistoricalPost> posts) {
+        EngagementAccumulator accumulator = new EngagementAccumulator();
+        for (HistoricalPost post : posts) {
+            accumulator.add(post.getCreatedAt(), post.getEngagementCount());
+        }
+        return accumulator;
+    }
+
+    public static int slotOf(DayOfWeek day, int hour) {
+        return (day.getValue() - 1) * HOURS_PER_DAY + hour;
+    }
+
+    public static DayOfWeek dayOf(int slot) {
+        return DayOfWeek.of(slot / HOURS_PER_DAY + 1);
+    }
+
+    public static int hourOf(int slot) {
+        return slot % HOURS_PER_DAY;
+    }
+
+    public void add(LocalDateTime createdAt, int engagement) {
+        int slot = slotOf(createdAt.getDayOfWeek(), createdAt.getHour());
+        counts[slot]++;
+        sums[slot] += engagement;
+        sumsOfSquares[slot] += (double) engagement * engagement;
+    }
+
+    /** Takes back a post added earlier, so a re-fetched post can replace its old engagement. */
+    public void remove(LocalDateTime createdAt, int engagement) {
+        int slot = slotOf(createdAt.getDayOfWeek(), createdAt.getHour());
+        counts[slot]--;
+        sums[slot] -= engagement;
+        sumsOfSquares[slot] -= (double) engagement * engagement;
+    }
+
+    public void merge(int slot, int count, long sum, double sumOfSquares) {
+        counts[slot] += count;
+        sums[slot] += sum;
+        sumsOfSquares[slot] += sumOfSquares;
+    }
+
+    public int count(int slot) {
+        return counts[slot];
+    }
+
+    public long sum(int slot) {
+        return sums[slot];
+    }
+
+    public double sumOfSquares(int slot) {
+        return sumsOfSquares[slot];
+    }
+
+    public double mean(int slot) {
+        return counts[slot] == 0 ? 0.0 : (double) sums[slot] / counts[slot];
+    }
+
+    /**
+     * Per-slot scores normalised to the best slot, or -1 for slots without posts.
+     * <p>
+     * Without confidence weighting a slot scores its plain mean engagement, exactly as the
+     * original per-slot average did. With it, each mean is shrunk towards the account's
+     * overall mean by {@code (sum + k * grandMean) / (count + k)}, where {@code k} is the
+     * ratio of within-slot to between-slot variance, so an hour backed by a single lucky
+     * post no longer outranks one with a long steady record.
+     */
+    public double[] normalizedScores(boolean confidenceWeighted) {
+        double shrinkage = confidenceWeighted ? shrinkage() : 0.0;
+        double grandMean = grandMean();
+
+        double[] scores = new double[SLOTS];
+        double max = 0.0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (counts[slot] == 0) {
+                scores[slot] = -1;
+                continue;
+            }
+            double score = shrinkage > 0
+                    ? (sums[slot] + shrinkage * grandMean) / (counts[slot] + shrinkage)
+                    : (double) sums[slot] / counts[slot];
+            scores[slot] = score;
+            if (score > max) {
+                max = score;
+            }
+        }
+
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (counts[slot] > 0) {
+                scores[slot] = max > 0 ? scores[slot] / max : 0.0;
+            }
+        }
+        return scores;
+    }
+
+    private double grandMean() {
+        long total = 0;
+        long posts = 0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            total += sums[slot];
+            posts += counts[slot];
+        }
+        return posts == 0 ? 0.0 : (double) total / posts;
+    }
+
+    private double shrinkage() {
+        int occupied = 0;
+        long posts = 0;
+        double withinSquares = 0.0;
+        double meanOfMeans = 0.0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (counts[slot] == 0) {
+                continue;
+            }
+            occupied++;
+            posts += counts[slot];
+            withinSquares += sumsOfSquares[slot] - (double) sums[slot] * sums[slot] / counts[slot];
+            meanOfMeans += mean(slot);
+        }
+        if (occupied < 2 || posts <= occupied) {
+            return 0.0;
+        }
+        meanOfMeans /= occupied;
+
+        double betweenSquares = 0.0;
+        for (int slot = 0; slot < SLOTS; slot++) {
+            if (counts[slot] > 0) {
+                double delta = mean(slot) - meanOfMeans;
+                betweenSquares += delta * delta;
+            }
+        }
+        double withinVariance = Math.max(0.0, withinSquares) / (posts - occupied);
+        double betweenVariance = betweenSquares / (occupied - 1);
+        return betweenVariance > 0 ? withinVariance / betweenVariance : 0.0;
+    }
+}
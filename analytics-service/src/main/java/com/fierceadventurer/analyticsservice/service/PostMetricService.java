@@ -0,0 +1,18 @@
+package com.fierceadventurer.analyticsservice.service;
+
+import com.fierceadventurer.analyticsservice.dto.EngagementTrendPointDto;
+import com.fierceadventurer.analyticsservice.dto.HistoricalPost;
+import com.fierceadventurer.analyticsservice.enums.MetricGranularity;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface PostMetricService {
+
+    void recordMetrics(UUID socialAccountId, List<HistoricalPost> posts);
+
+    /** The stored version of each of the posts that has been recorded before. */
+    List<HistoricalPost> findRecorded(UUID socialAccountId, List<HistoricalPost> posts);
+
+    List<EngagementTrendPointDto> getEngagementTrend(UUID socialAccountId, int days, MetricGranularity granularity);
+}
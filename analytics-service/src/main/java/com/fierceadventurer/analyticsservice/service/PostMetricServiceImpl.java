@@ -0,0 +1,200 @@
+package com.fierceadventurer.analyticsservice.service;
+
+import com.fierceadventurer.analyticsservice.dto.EngagementTrendPointDto;
+import com.fierceadventurer.analyticsservice.dto.HistoricalPost;
+import com.fierceadventurer.analyticsservice.entity.PostMetric;
+import com.fierceadventurer.analyticsservice.enums.MetricGranularity;
+import com.fierceadventurer.analyticsservice.mapper.AnalyticsMapper;
+import com.fierceadventurer.analyticsservice.repository.DailyPostMetricRollupRepository;
+import com.fierceadventurer.analyticsservice.repository.HourlyPostMetricRollupRepository;
+import com.fierceadventurer.analyticsservice.repository.PostMetricRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PostMetricServiceImpl implements PostMetricService {
+    private final PostMetricRepository postMetricRepository;
+    private final HourlyPostMetricRollupRepository hourlyRollupRepository;
+    private final DailyPostMetricRollupRepository dailyRollupRepository;
+    private final AnalyticsMapper analyticsMapper;
+
+    @Value("${analytics.metrics.raw-retention:365d}")
+    private Duration rawRetention;
+
+    @Value("${analytics.metrics.hourly-retention:90d}")
+    private Duration hourlyRetention;
+
+    @Value("${analytics.metrics.prune-batch-size:1000}")
+    private int pruneBatchSize;
+
+    @Value("${analytics.metrics.max-trend-days:365}")
+    private int maxTrendDays;
+
+    /**
+     * Upserts one PostMetric per post and moves the difference between the stored and the
+     * fetched values into the hourly and daily buckets, so rollups stay exact without ever
+     * re-aggregating the raw rows.
+     */
+    @Override
+    @Transactional
+    public void recordMetrics(UUID socialAccountId, List<HistoricalPost> posts) {
+        Map<String, HistoricalPost> byExternalId = new LinkedHashMap<>();
+        for (HistoricalPost post : posts) {
+            byExternalId.put(externalIdOf(post), post);
+        }
+
+        Map<String, PostMetric> existing = new HashMap<>();
+        for (PostMetric metric : postMetricRepository.findBySocialAccountIdAndExternalPostIdIn(
+                socialAccountId, byExternalId.keySet())) {
+            existing.put(metric.getExternalPostId(), metric);
+        }
+
+        Map<LocalDateTime, BucketDelta> hourly = new HashMap<>();
+        Map<LocalDateTime, BucketDelta> daily = new HashMap<>();
+        List<PostMetric> toSave = new ArrayList<>(byExternalId.size());
+
+        for (Map.Entry<String, HistoricalPost> entry : byExternalId.entrySet()) {
+            HistoricalPost post = entry.getValue();
+            PostMetric metric = existing.get(entry.getKey());
+
+            if (metric == null) {
+                metric = PostMetric.builder()
+                        .socialAccountId(socialAccountId)
+                        .externalPostId(entry.getKey())
+                        .build();
+            }
+            else if (metric.getPostedAt() != null) {
+                apply(hourly, daily, metric.getPostedAt(), -1,
+                        metric.getLikes(), metric.getComments(), metric.getShares(), metric.getEngagementScore());
+            }
+
+            metric.setPostedAt(post.getCreatedAt());
+            metric.setLikes(post.getLikes());
+            metric.setComments(post.getComments());
+            metric.setShares(post.getShares());
+            metric.setEngagementScore(post.getEngagementCount());
+            apply(hourly, daily, post.getCreatedAt(), 1,
+                    post.getLikes(), post.getComments(), post.getShares(), post.getEngagementCount());
+            toSave.add(metric);
+        }
+
+        postMetricRepository.saveAll(toSave);
+        hourly.forEach((bucket, delta) -> {
+            if (!delta.isEmpty()) {
+                hourlyRollupRepository.addToBucket(socialAccountId, bucket, delta.posts,
+                        delta.likes, delta.comments, delta.shares, delta.engagement);
+            }
+        });
+        daily.forEach((bucket, delta) -> {
+            if (!delta.isEmpty()) {
+                dailyRollupRepository.addToBucket(socialAccountId, bucket, delta.posts,
+                        delta.likes, delta.comments, delta.shares, delta.engagement);
+            }
+        });
+        log.info("Recorded metrics for {} posts of account {} ({} hourly, {} daily buckets touched)",
+                toSave.size(), socialAccountId, hourly.size(), daily.size());
+    }
+
+    @Override
+    public List<HistoricalPost> findRecorded(UUID socialAccountId, List<HistoricalPost> posts) {
+        Set<String> externalIds = new HashSet<>();
+        posts.forEach(post -> externalIds.add(externalIdOf(post)));
+        return postMetricRepository.findBySocialAccountIdAndExternalPostIdIn(socialAccountId, externalIds).stream()
+                .filter(metric -> metric.getPostedAt() != null)
+                .map(metric -> new HistoricalPost(metric.getPostedAt(), (int) Math.round(metric.getEngagementScore()),
+                        metric.getExternalPostId(), metric.getLikes(), metric.getComments(), metric.getShares()))
+                .toList();
+    }
+
+    @Override
+    public List<EngagementTrendPointDto> getEngagementTrend(UUID socialAccountId, int days, MetricGranularity granularity) {
+        int maxDays = granularity == MetricGranularity.HOUR ? (int) hourlyRetention.toDays() : maxTrendDays;
+        if (days < 1 || days > maxDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "days must be between 1 and " + maxDays + " for " + granularity + " granularity");
+        }
+
+        LocalDateTime from = LocalDateTime.now().truncatedTo(ChronoUnit.DAYS).minusDays(days - 1L);
+        if (granularity == MetricGranularity.HOUR) {
+            return hourlyRollupRepository
+                    .findBySocialAccountIdAndBucketStartGreaterThanEqualOrderByBucketStart(socialAccountId, from)
+                    .stream().map(analyticsMapper::toTrendPoint).toList();
+        }
+        return dailyRollupRepository
+                .findBySocialAccountIdAndBucketStartGreaterThanEqualOrderByBucketStart(socialAccountId, from)
+                .stream().map(analyticsMapper::toTrendPoint).toList();
+    }
+
+    /**
+     * Raw rows past retention are deleted in bounded batches; the daily rollups they fed are
+     * kept, so long-range trends survive pruning.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void pruneExpiredMetrics() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int pruned = 0;
+        int deleted;
+        do {
+            deleted = postMetricRepository.deleteBatchPostedBefore(now.minus(rawRetention), pruneBatchSize);
+            pruned += deleted;
+        } while (deleted == pruneBatchSize);
+
+        int prunedBuckets = hourlyRollupRepository.deleteOlderThan(now.minus(hourlyRetention));
+        if (pruned > 0 || prunedBuckets > 0) {
+            log.info("Pruned {} post metrics and {} hourly rollup buckets past retention", pruned, prunedBuckets);
+        }
+    }
+
+    private static String externalIdOf(HistoricalPost post) {
+        return post.getExternalPostId() != null ? post.getExternalPostId() : post.getCreatedAt().toString();
+    }
+
+    private static void apply(Map<LocalDateTime, BucketDelta> hourly, Map<LocalDateTime, BucketDelta> daily,
+                              LocalDateTime postedAt, int sign, long likes, long comments, long shares,
+                              double engagement) {
+        Function<LocalDateTime, BucketDelta> create = bucket -> new BucketDelta();
+        hourly.computeIfAbsent(postedAt.truncatedTo(ChronoUnit.HOURS), create)
+                .add(sign, likes, comments, shares, engagement);
+        daily.computeIfAbsent(postedAt.truncatedTo(ChronoUnit.DAYS), create)
+                .add(sign, likes, comments, shares, engagement);
+    }
+
+    private static final class BucketDelta {
+        private int posts;
+        private long likes;
+        private long comments;
+        private long shares;
+        private double engagement;
+
+        void add(int sign, long likes, long comments, long shares, double engagement) {
+            this.posts += sign;
+            this.likes += sign * likes;
+            this.comments += sign * comments;
+            this.shares += sign * shares;
+            this.engagement += sign * engagement;
+        }
+
+        boolean isEmpty() {
+            return posts == 0 && likes == 0 && comments == 0 && shares == 0 && engagement == 0;
+        }
+    }
+}
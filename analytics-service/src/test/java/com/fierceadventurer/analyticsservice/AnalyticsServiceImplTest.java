@@ -1,6 +1,9 @@
 package com.fierceadventurer.analyticsservice;
 
+import com.fierceadventurer.analyticsservice.cache.NextBestTimeCache;
+import com.fierceadventurer.analyticsservice.dto.NextBestTimeRequestDto;
 import com.fierceadventurer.analyticsservice.dto.NextBestTimeResponseDto;
+import com.fierceadventurer.analyticsservice.dto.NextBestTimesResponseDto;
 import com.fierceadventurer.analyticsservice.entity.AnalysisJob;
 import com.fierceadventurer.analyticsservice.entity.OptimalTimeSlot;
 import com.fierceadventurer.analyticsservice.enums.AnalysisStatus;
@@ -9,16 +12,21 @@ import com.fierceadventurer.analyticsservice.repository.AnalysisJobRepository;
 import com.fierceadventurer.analyticsservice.repository.OptimalTimeSlotRepository;
 import com.fierceadventurer.analyticsservice.service.AnalysisJobRunner;
 import com.fierceadventurer.analyticsservice.service.AnalyticsServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -38,11 +46,15 @@ class AnalyticsServiceImplTest {
     @Mock
     private AnalysisJobRunner analysisJobRunner;
 
+    @Spy
+    private NextBestTimeCache nextBestTimeCache =
+            new NextBestTimeCache(new SimpleMeterRegistry(), Duration.ofMinutes(15), Duration.ofMinutes(1));
+
     @InjectMocks
     private AnalyticsServiceImpl analyticsService;
 
     @Test
-    void findNextBestTime_ShouldTriggerImmediateAnalysis_IfSlotsEmpty() throws Exception {
+    void findNextBestTime_ShouldReturnFallbackAndQueueAnalysis_IfSlotsEmpty() throws Exception {
         UUID accountId = UUID.randomUUID();
 
         AnalysisJob mockJob = new AnalysisJob();
@@ -54,17 +66,38 @@ class AnalyticsServiceImplTest {
         when(analysisJobRepository.findBySocialAccountId(accountId)).thenReturn(Optional.of(mockJob));
 
         when(optimalTimeSlotRepository.findBySocialAccountIdOrderByEngagementScoreDesc(accountId))
-                .thenReturn(Collections.emptyList())
-                .thenReturn(List.of(createSlot(accountId, DayOfWeek.MONDAY, 10, 1.0)));
+                .thenReturn(Collections.emptyList());
 
         NextBestTimeResponseDto result = analyticsService.findNextBestTime(accountId);
 
-        verify(analysisJobRunner, times(1)).performAnalysis(mockJob);
+        verify(analysisJobRunner, never()).performAnalysis(any());
+        verify(analysisJobRunner, times(1)).wakeUp();
 
-        Assertions.assertEquals(DayOfWeek.MONDAY, result.getNextBestTime().getDayOfWeek());
+        Assertions.assertTrue(result.getNextBestTime().getDayOfWeek().getValue() <= 5);
         Assertions.assertEquals(10, result.getNextBestTime().getHour());
     }
 
+    @Test
+    void findNextBestTime_ShouldAnswerFromCache_AfterFirstLoad() {
+        UUID accountId = UUID.randomUUID();
+        AnalysisJob mockJob = new AnalysisJob();
+        mockJob.setProvider(Provider.LINKEDIN);
+        mockJob.setStatus(AnalysisStatus.COMPLETED);
+
+        when(analysisJobRepository.findBySocialAccountId(accountId)).thenReturn(Optional.of(mockJob));
+        when(optimalTimeSlotRepository.findBySocialAccountIdOrderByEngagementScoreDesc(accountId))
+                .thenReturn(List.of(createSlot(accountId, DayOfWeek.MONDAY, 10, 1.0)));
+
+        NextBestTimeResponseDto first = analyticsService.findNextBestTime(accountId);
+        NextBestTimeResponseDto second = analyticsService.findNextBestTime(accountId);
+
+        verify(optimalTimeSlotRepository, times(1)).findBySocialAccountIdOrderByEngagementScoreDesc(accountId);
+        verify(analysisJobRepository, times(1)).findBySocialAccountId(accountId);
+        Assertions.assertEquals(first.getNextBestTime(), second.getNextBestTime());
+        Assertions.assertEquals(DayOfWeek.MONDAY, second.getNextBestTime().getDayOfWeek());
+        Assertions.assertEquals(10, second.getNextBestTime().getHour());
+    }
+
     @Test
     void findNextBestTime_LinkedIn_ShouldFilterOutWeekends() {
         UUID accountId = UUID.randomUUID();
@@ -85,6 +118,35 @@ class AnalyticsServiceImplTest {
         Assertions.assertEquals(DayOfWeek.TUESDAY, result.getNextBestTime().getDayOfWeek());
     }
 
+    @Test
+    void findNextBestTimes_ShouldReturnDistinctUpcomingSlots_AcrossWeeks() {
+        UUID accountId = UUID.randomUUID();
+        AnalysisJob mockJob = new AnalysisJob();
+        mockJob.setProvider(Provider.LINKEDIN);
+        mockJob.setStatus(AnalysisStatus.COMPLETED);
+
+        when(analysisJobRepository.findBySocialAccountId(accountId)).thenReturn(Optional.of(mockJob));
+        when(optimalTimeSlotRepository.findBySocialAccountIdOrderByEngagementScoreDesc(accountId))
+                .thenReturn(List.of(
+                        createSlot(accountId, DayOfWeek.MONDAY, 10, 1.0),
+                        createSlot(accountId, DayOfWeek.WEDNESDAY, 14, 0.8)));
+
+        List<NextBestTimesResponseDto> result = analyticsService.findNextBestTimes(List.of(
+                new NextBestTimeRequestDto(accountId, 5),
+                new NextBestTimeRequestDto(accountId, 2)));
+
+        Assertions.assertEquals(1, result.size());
+        List<LocalDateTime> upcoming = result.get(0).getNextBestTimes();
+        Assertions.assertEquals(5, upcoming.size());
+        Assertions.assertEquals(5, new HashSet<>(upcoming).size());
+        Assertions.assertEquals(upcoming.stream().sorted().toList(), upcoming);
+        Assertions.assertTrue(upcoming.get(0).isAfter(LocalDateTime.now().plusMinutes(29)));
+        Assertions.assertTrue(upcoming.stream().allMatch(time ->
+                (time.getDayOfWeek() == DayOfWeek.MONDAY && time.getHour() == 10)
+                        || (time.getDayOfWeek() == DayOfWeek.WEDNESDAY && time.getHour() == 14)));
+        verify(optimalTimeSlotRepository, times(1)).findBySocialAccountIdOrderByEngagementScoreDesc(accountId);
+    }
+
     @Test
     void findNextBestTime_ShouldSelfRepair_IfJobMissing() {
 
@@ -0,0 +1,67 @@
+package com.fierceadventurer.analyticsservice;
+
+import com.fierceadventurer.analyticsservice.dto.HistoricalPost;
+import com.fierceadventurer.analyticsservice.service.EngagementAccumulator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class EngagementAccumulatorTest {
+
+    @Test
+    void normalizedScores_ShouldMatchPerSlotAverages() {
+        Random random = new Random(42);
+        List<HistoricalPost> posts = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        for (int i = 0; i < 5_000; i++) {
+            posts.add(new HistoricalPost(start.plusMinutes(random.nextInt(60 * 24 * 365)), random.nextInt(500)));
+        }
+
+        double[] scores = EngagementAccumulator.of(posts).normalizedScores(false);
+
+        Map<Integer, List<Integer>> bySlot = new HashMap<>();
+        for (HistoricalPost post : posts) {
+            int slot = EngagementAccumulator.slotOf(post.getCreatedAt().getDayOfWeek(), post.getCreatedAt().getHour());
+            bySlot.computeIfAbsent(slot, k -> new ArrayList<>()).add(post.getEngagementCount());
+        }
+        Map<Integer, Double> averages = new HashMap<>();
+        bySlot.forEach((slot, values) ->
+                averages.put(slot, values.stream().mapToInt(Integer::intValue).average().orElse(0.0)));
+        double max = averages.values().stream().mapToDouble(Double::doubleValue).max().orElse(0.0);
+
+        for (int slot = 0; slot < EngagementAccumulator.SLOTS; slot++) {
+            if (averages.containsKey(slot)) {
+                Assertions.assertEquals(averages.get(slot) / max, scores[slot]);
+            } else {
+                Assertions.assertTrue(scores[slot] < 0);
+            }
+        }
+    }
+
+    @Test
+    void normalizedScores_ConfidenceWeighted_ShouldDiscountSingleOutlier() {
+        List<HistoricalPost> posts = new ArrayList<>();
+        LocalDateTime monday = LocalDateTime.of(2024, 1, 1, 0, 0);
+        posts.add(new HistoricalPost(monday.withHour(3), 120));
+        for (int week = 0; week < 20; week++) {
+            posts.add(new HistoricalPost(monday.plusWeeks(week).withHour(10), 20 + week % 3 * 80));
+            posts.add(new HistoricalPost(monday.plusWeeks(week).withHour(15), 10 + week % 3 * 40));
+        }
+        EngagementAccumulator accumulator = EngagementAccumulator.of(posts);
+        int outlier = EngagementAccumulator.slotOf(DayOfWeek.MONDAY, 3);
+        int steady = EngagementAccumulator.slotOf(DayOfWeek.MONDAY, 10);
+
+        double[] plain = accumulator.normalizedScores(false);
+        double[] weighted = accumulator.normalizedScores(true);
+
+        Assertions.assertTrue(plain[outlier] > plain[steady]);
+        Assertions.assertTrue(weighted[steady] > weighted[outlier]);
+    }
+}
@@ -0,0 +1,103 @@
+package com.fierceadventurer.analyticsservice;
+
+import com.fierceadventurer.analyticsservice.dto.HistoricalPost;
+import com.fierceadventurer.analyticsservice.service.EngagementAccumulator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slot scoring with {@link EngagementAccumulator} against the per-slot averaging it replaced,
+ * which grouped posts into boxed lists in nested maps before averaging each list.
+ * Run {@link #main} from the IDE or with the test classpath; the GC profiler reports the
+ * allocation per operation ({@code gc.alloc.rate.norm}) next to the timings.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EngagementScoringBenchmark {
+
+    @Param({"500", "5000", "50000", "100000"})
+    public int postCount;
+
+    private List<HistoricalPost> posts;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        posts = new ArrayList<>(postCount);
+        for (int i = 0; i < postCount; i++) {
+            posts.add(new HistoricalPost(start.plusMinutes(random.nextInt(60 * 24 * 365)), random.nextInt(500)));
+        }
+    }
+
+    @Benchmark
+    public double[] accumulator() {
+        return EngagementAccumulator.of(posts).normalizedScores(false);
+    }
+
+    @Benchmark
+    public double[] accumulatorConfidenceWeighted() {
+        return EngagementAccumulator.of(posts).normalizedScores(true);
+    }
+
+    @Benchmark
+    public Map<DayOfWeek, Map<Integer, Double>> perSlotAveraging() {
+        Map<DayOfWeek, Map<Integer, List<Integer>>> engagementBySlot = new EnumMap<>(DayOfWeek.class);
+        for (HistoricalPost post : posts) {
+            engagementBySlot
+                    .computeIfAbsent(post.getCreatedAt().getDayOfWeek(), k -> new HashMap<>())
+                    .computeIfAbsent(post.getCreatedAt().getHour(), k -> new ArrayList<>())
+                    .add(post.getEngagementCount());
+        }
+
+        Map<DayOfWeek, Map<Integer, Double>> averages = new EnumMap<>(DayOfWeek.class);
+        double maxAverage = 0.0;
+        for (Map.Entry<DayOfWeek, Map<Integer, List<Integer>>> dayEntry : engagementBySlot.entrySet()) {
+            for (Map.Entry<Integer, List<Integer>> hourEntry : dayEntry.getValue().entrySet()) {
+                double average = hourEntry.getValue().stream()
+                        .mapToInt(Integer::intValue)
+                        .average().orElse(0.0);
+                maxAverage = Math.max(maxAverage, average);
+                averages.computeIfAbsent(dayEntry.getKey(), k -> new HashMap<>()).put(hourEntry.getKey(), average);
+            }
+        }
+
+        double max = maxAverage;
+        averages.values().forEach(hours -> hours.replaceAll((hour, average) -> max > 0 ? average / max : 0.0));
+        return averages;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EngagementScoringBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -5,6 +5,7 @@ import com.fierceadventurer.mediastorageservice.dto.MediaUploadResponseDto;
 import com.fierceadventurer.mediastorageservice.entity.MediaFile;
 import com.fierceadventurer.mediastorageservice.service.MediaStorageService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -31,11 +32,16 @@ public class MediaController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<byte[]> getMediaFile(@PathVariable UUID id) {
+    public ResponseEntity<InputStreamResource> getMediaFile(@PathVariable UUID id) {
         MediaResourceDto resource = mediaStorageService.getFile(id);
-        return ResponseEntity.ok().header(HttpHeaders.CONTENT_TYPE, resource.getContentType())
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if(resource.getContentHash() != null){
+            response.eTag(resource.getContentHash());
+        }
+        return response.header(HttpHeaders.CONTENT_TYPE, resource.getContentType())
                 .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFileName() +"\"")
-                .body(resource.getData());
+                .contentLength(resource.getSize())
+                .body(new InputStreamResource(resource.getStream()));
 
     }
 }
@@ -4,11 +4,15 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.io.InputStream;
+
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
 public class MediaResourceDto {
     private String fileName;
     private String contentType;
-    private byte[] data;
+    private Long size;
+    private String contentHash;
+    private InputStream stream;
 }
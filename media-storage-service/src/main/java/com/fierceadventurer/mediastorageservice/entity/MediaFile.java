@@ -33,6 +33,9 @@ public class MediaFile {
 
     private String storagePath;
 
+    @Column(length = 64)
+    private String contentHash;
+
     @Column(name = "user_id")
     private UUID userId;
 
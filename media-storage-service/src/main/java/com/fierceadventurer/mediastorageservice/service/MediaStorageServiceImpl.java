@@ -18,8 +18,11 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.security.DigestInputStream;
 import java.security.InvalidKeyException;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.UUID;
 
 @Service
@@ -46,10 +49,14 @@ public class MediaStorageServiceImpl implements MediaStorageService {
 
             log.info("Uploading to remote MinIO path: {}", storagePath);
 
+            // Hash while MinIO reads the upload so consumers can key caches on content.
+            DigestInputStream digestStream = new DigestInputStream(
+                    file.getInputStream(), MessageDigest.getInstance("SHA-256"));
+
             minioClient.putObject(
                     PutObjectArgs.builder().bucket(bucketName)
                             .object(storagePath)
-                            .stream(file.getInputStream() , file.getSize(), -1)
+                            .stream(digestStream , file.getSize(), -1)
                             .contentType(file.getContentType())
                             .build()
             );
@@ -60,6 +67,7 @@ public class MediaStorageServiceImpl implements MediaStorageService {
             mediaFile.setSize(file.getSize());
             mediaFile.setStoragePath(storagePath);
             mediaFile.setUserId(userId);
+            mediaFile.setContentHash(HexFormat.of().formatHex(digestStream.getMessageDigest().digest()));
 
             MediaFile savedFile = mediaFileRepository.save(mediaFile);
 
@@ -101,7 +109,9 @@ public class MediaStorageServiceImpl implements MediaStorageService {
             return new MediaResourceDto(
                     mediaFile.getFileName(),
                     mediaFile.getContentType(),
-                    stream.readAllBytes()
+                    mediaFile.getSize(),
+                    mediaFile.getContentHash(),
+                    stream
             );
         } catch (Exception e) {
             log.error("Download failed",e);
@@ -0,0 +1,107 @@
+package com.fierceadventurer.postservice.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Remembers confirmed (userId, accountId) ownership so variant creation can skip the
+ * call to social-account-service. Only positive results are kept; entries are dropped
+ * on account lifecycle events and otherwise expire after the configured TTL.
+ * <p>
+ * Every eviction is stamped with a sequence number. Callers take {@link #currentEpoch()}
+ * before asking social-account-service and hand it back to {@link #markOwner}, which
+ * refuses the result if the account was evicted in the meantime, so a lookup that
+ * raced a suspension or reassignment cannot re-cache the old owner.
+ */
+@Component
+@Slf4j
+public class AccountOwnershipCache {
+
+    private final Map<OwnershipKey, Long> expiryByKey = new ConcurrentHashMap<>();
+    private final Map<UUID, Eviction> lastEvictionByAccount = new ConcurrentHashMap<>();
+    private final AtomicLong evictionSequence = new AtomicLong();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public AccountOwnershipCache(
+            @Value("${ownership-cache.ttl:10m}") Duration ttl,
+            @Value("${ownership-cache.max-entries:100000}") int maxEntries
+    ) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    public boolean isOwner(UUID userId, UUID accountId) {
+        OwnershipKey key = new OwnershipKey(userId, accountId);
+        Long expiresAt = expiryByKey.get(key);
+        if(expiresAt == null){
+            return false;
+        }
+        if(expiresAt - System.nanoTime() < 0){
+            expiryByKey.remove(key, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    public long currentEpoch() {
+        return evictionSequence.get();
+    }
+
+    /**
+     * Caches ownership confirmed by a lookup that started at {@code epoch}, unless the
+     * account has been evicted since.
+     */
+    public void markOwner(UUID userId, UUID accountId, long epoch) {
+        if(evictedSince(accountId, epoch)){
+            log.debug("Not caching ownership of account {}: evicted while it was being validated", accountId);
+            return;
+        }
+        if(expiryByKey.size() >= maxEntries){
+            removeExpired();
+            if(expiryByKey.size() >= maxEntries){
+                return;
+            }
+        }
+        OwnershipKey key = new OwnershipKey(userId, accountId);
+        long expiresAt = System.nanoTime() + ttlNanos;
+        expiryByKey.put(key, expiresAt);
+
+        // An eviction landing between the check above and the put may have scanned the map
+        // before our entry was in it; it has recorded its epoch by then, so re-check.
+        if(evictedSince(accountId, epoch)){
+            expiryByKey.remove(key, expiresAt);
+        }
+    }
+
+    public void evictAccount(UUID accountId) {
+        long now = System.nanoTime();
+        // A lookup older than the TTL is long finished, so older evictions can no longer race one.
+        lastEvictionByAccount.values().removeIf(eviction -> now - eviction.atNanos() > ttlNanos);
+        lastEvictionByAccount.put(accountId, new Eviction(evictionSequence.incrementAndGet(), now));
+        expiryByKey.keySet().removeIf(key -> key.accountId().equals(accountId));
+    }
+
+    private boolean evictedSince(UUID accountId, long epoch) {
+        Eviction eviction = lastEvictionByAccount.get(accountId);
+        return eviction != null && eviction.sequence() > epoch;
+    }
+
+    private void removeExpired() {
+        long now = System.nanoTime();
+        expiryByKey.values().removeIf(expiresAt -> expiresAt - now < 0);
+    }
+
+    private record OwnershipKey(UUID userId, UUID accountId) {
+    }
+
+    private record Eviction(long sequence, long atNanos) {
+    }
+}
@@ -0,0 +1,147 @@
+package com.fierceadventurer.postservice.cache;
+
+import com.fierceadventurer.postservice.dto.TrendingHashtagDto;
+import com.fierceadventurer.postservice.enums.Platform;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Streaming heavy-hitter counts of hashtag usage per (user, platform). Each stream keeps a
+ * small Count-Min Sketch for the counts and a min-heap of the current top K tags; reads
+ * return a snapshot that is rebuilt on write, so serving the trending list costs nothing.
+ * <p>
+ * Usage is broadcast on {@link #CHANGES_TOPIC} once its transaction commits and reaches the
+ * tracker only through that topic, on the writing replica too, since counts are not idempotent.
+ * Sketches cannot forget, so they are periodically replaced by a {@link #rebuild} from the
+ * database over the trending window; usage arriving during a rebuild goes into both the old
+ * and the new counts, which may count it twice but never loses it.
+ */
+@Component
+public class HashtagTrendTracker {
+
+    public static final String CHANGES_TOPIC = "hashtag-usage-topic";
+
+    @FunctionalInterface
+    public interface Recorder {
+        void record(UUID userId, Platform platform, String hashtag, long uses);
+    }
+
+    private volatile Map<TrendKey, TrendStream> streams = new ConcurrentHashMap<>();
+    private volatile Map<TrendKey, TrendStream> rebuilding;
+    private final int depth;
+    private final int width;
+    private final int topK;
+
+    public HashtagTrendTracker(
+            @Value("${hashtags.trending.sketch-depth:4}") int depth,
+            @Value("${hashtags.trending.sketch-width:256}") int width,
+            @Value("${hashtags.trending.top-k:20}") int topK
+    ) {
+        this.depth = depth;
+        this.width = width;
+        this.topK = topK;
+    }
+
+    public void record(UUID userId, Platform platform, String hashtag, long uses) {
+        // Read in the reverse order of the swap in rebuild, so a concurrent swap cannot drop this.
+        Map<TrendKey, TrendStream> next = rebuilding;
+        Map<TrendKey, TrendStream> current = streams;
+        add(current, userId, platform, hashtag, uses);
+        if (next != null && next != current) {
+            add(next, userId, platform, hashtag, uses);
+        }
+    }
+
+    /**
+     * Replaces every count with the usage the loader replays. The old counts keep serving reads
+     * until the loader is done, and stay in place if it fails.
+     */
+    public synchronized void rebuild(Consumer<Recorder> loader) {
+        Map<TrendKey, TrendStream> next = new ConcurrentHashMap<>();
+        rebuilding = next;
+        try {
+            loader.accept((userId, platform, hashtag, uses) -> add(next, userId, platform, hashtag, uses));
+            streams = next;
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void add(Map<TrendKey, TrendStream> target, UUID userId, Platform platform, String hashtag, long uses) {
+        target.computeIfAbsent(new TrendKey(userId, platform), key -> new TrendStream())
+                .add(hashtag, uses);
+    }
+
+    public List<TrendingHashtagDto> trending(UUID userId, Platform platform, int limit) {
+        TrendStream stream = streams.get(new TrendKey(userId, platform));
+        if (stream == null) {
+            return List.of();
+        }
+        List<TrendingHashtagDto> snapshot = stream.snapshot;
+        return snapshot.size() <= limit ? snapshot : snapshot.subList(0, limit);
+    }
+
+    private record TrendKey(UUID userId, Platform platform) {}
+
+    private final class TrendStream {
+        private final long[][] counts = new long[depth][width];
+        private final Map<String, Long> heavyHitters = new HashMap<>();
+        private final PriorityQueue<Map.Entry<String, Long>> minHeap =
+                new PriorityQueue<>(Map.Entry.comparingByValue());
+        private volatile List<TrendingHashtagDto> snapshot = List.of();
+
+        synchronized void add(String hashtag, long uses) {
+            int hash = murmurMix(hashtag);
+            long estimate = Long.MAX_VALUE;
+            for (int row = 0; row < depth; row++) {
+                // Kirsch-Mitzenmacher: derive each row's index from two halves of one hash.
+                int index = Math.floorMod((hash & 0xffff) + row * ((hash >>> 16) | 1), width);
+                counts[row][index] += uses;
+                estimate = Math.min(estimate, counts[row][index]);
+            }
+
+            if (heavyHitters.containsKey(hashtag)) {
+                minHeap.removeIf(entry -> entry.getKey().equals(hashtag));
+            } else if (heavyHitters.size() >= topK) {
+                Map.Entry<String, Long> smallest = minHeap.peek();
+                if (smallest == null || smallest.getValue() >= estimate) {
+                    return;
+                }
+                minHeap.poll();
+                heavyHitters.remove(smallest.getKey());
+            }
+            heavyHitters.put(hashtag, estimate);
+            minHeap.add(Map.entry(hashtag, estimate));
+
+            List<TrendingHashtagDto> ranked = new ArrayList<>(heavyHitters.size());
+            heavyHitters.forEach((tag, count) -> ranked.add(new TrendingHashtagDto(tag, count)));
+            ranked.sort(Comparator.comparingLong(TrendingHashtagDto::getEstimatedUses).reversed()
+                    .thenComparing(TrendingHashtagDto::getHashtag));
+            snapshot = List.copyOf(ranked);
+        }
+    }
+
+    private static int murmurMix(String value) {
+        int h = 0;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h = 31 * h + b;
+        }
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
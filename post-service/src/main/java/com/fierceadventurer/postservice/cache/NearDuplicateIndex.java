@@ -0,0 +1,144 @@
+package com.fierceadventurer.postservice.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Banded LSH over variant SimHash fingerprints, per social account. The 64 bits are split
+ * into four 16-bit bands; two fingerprints within three bits of each other must agree on at
+ * least one band, so looking up the four band buckets finds every such neighbour without
+ * comparing against the account's whole history.
+ * <p>
+ * Changes are applied once their transaction commits and broadcast on {@link #CHANGES_TOPIC},
+ * which every replica, this one included, replays into its own copy.
+ */
+@Component
+public class NearDuplicateIndex {
+
+    public static final String CHANGES_TOPIC = "variant-fingerprint-changes-topic";
+
+    private static final int BANDS = 4;
+    private static final int BAND_BITS = 64 / BANDS;
+
+    private final Map<UUID, AccountBuckets> bucketsByAccount = new HashMap<>();
+    private final Map<UUID, Entry> entryByVariant = new HashMap<>();
+    private final int maxDistance;
+    private final Duration window;
+
+    public NearDuplicateIndex(
+            @Value("${near-duplicates.max-distance:3}") int maxDistance,
+            @Value("${near-duplicates.window:7d}") Duration window
+    ) {
+        // Beyond BANDS - 1 bits the pigeonhole guarantee no longer holds and matches would be missed silently.
+        if (maxDistance < 0 || maxDistance > BANDS - 1) {
+            throw new IllegalArgumentException("near-duplicates.max-distance must be between 0 and " + (BANDS - 1)
+                    + " bits, but was " + maxDistance);
+        }
+        this.maxDistance = maxDistance;
+        this.window = window;
+    }
+
+    public record Entry(UUID variantId, UUID accountId, long fingerprint, LocalDateTime scheduledAt) {}
+
+    public Duration getWindow() {
+        return window;
+    }
+
+    public synchronized void put(Entry entry) {
+        remove(entry.variantId());
+        AccountBuckets buckets = bucketsByAccount.computeIfAbsent(entry.accountId(), id -> new AccountBuckets());
+        for (int band = 0; band < BANDS; band++) {
+            buckets.bands.get(band).computeIfAbsent(bandValue(entry.fingerprint(), band), value -> new HashSet<>())
+                    .add(entry.variantId());
+        }
+        entryByVariant.put(entry.variantId(), entry);
+    }
+
+    public synchronized void remove(UUID variantId) {
+        Entry entry = entryByVariant.remove(variantId);
+        if (entry == null) {
+            return;
+        }
+        AccountBuckets buckets = bucketsByAccount.get(entry.accountId());
+        for (int band = 0; band < BANDS; band++) {
+            Map<Integer, Set<UUID>> bucket = buckets.bands.get(band);
+            int value = bandValue(entry.fingerprint(), band);
+            Set<UUID> ids = bucket.get(value);
+            if (ids != null && ids.remove(variantId) && ids.isEmpty()) {
+                bucket.remove(value);
+            }
+        }
+    }
+
+    /** Other variants on the account within the Hamming threshold and scheduled within the window. */
+    public synchronized List<Entry> findNearDuplicates(UUID accountId, long fingerprint,
+                                                       LocalDateTime scheduledAt, UUID excludeVariantId) {
+        AccountBuckets buckets = bucketsByAccount.get(accountId);
+        List<Entry> matches = new ArrayList<>();
+        if (buckets == null) {
+            return matches;
+        }
+        Set<UUID> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            Set<UUID> ids = buckets.bands.get(band).get(bandValue(fingerprint, band));
+            if (ids != null) {
+                candidates.addAll(ids);
+            }
+        }
+        candidates.remove(excludeVariantId);
+        for (UUID candidate : candidates) {
+            Entry entry = entryByVariant.get(candidate);
+            if (entry != null && isNearDuplicate(entry, fingerprint, scheduledAt)) {
+                matches.add(entry);
+            }
+        }
+        return matches;
+    }
+
+    /** Whether the entry is within the Hamming threshold of the fingerprint and scheduled within the window. */
+    public boolean isNearDuplicate(Entry entry, long fingerprint, LocalDateTime scheduledAt) {
+        return SimHash.distance(entry.fingerprint(), fingerprint) <= maxDistance
+                && withinWindow(entry.scheduledAt(), scheduledAt);
+    }
+
+    public synchronized void pruneBefore(LocalDateTime cutoff) {
+        List<UUID> expired = entryByVariant.values().stream()
+                .filter(entry -> entry.scheduledAt().isBefore(cutoff))
+                .map(Entry::variantId)
+                .toList();
+        expired.forEach(this::remove);
+    }
+
+    public synchronized void clear() {
+        bucketsByAccount.clear();
+        entryByVariant.clear();
+    }
+
+    private boolean withinWindow(LocalDateTime a, LocalDateTime b) {
+        return Duration.between(a, b).abs().compareTo(window) <= 0;
+    }
+
+    private static int bandValue(long fingerprint, int band) {
+        return (int) ((fingerprint >>> (band * BAND_BITS)) & 0xffffL);
+    }
+
+    private static final class AccountBuckets {
+        private final List<Map<Integer, Set<UUID>>> bands = new ArrayList<>(BANDS);
+
+        private AccountBuckets() {
+            for (int band = 0; band < BANDS; band++) {
+                bands.add(new HashMap<>());
+            }
+        }
+    }
+}
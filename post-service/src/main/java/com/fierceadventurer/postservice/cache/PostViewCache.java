@@ -0,0 +1,228 @@
+package com.fierceadventurer.postservice.cache;
+
+import com.fierceadventurer.postservice.dto.MediaAssetDto;
+import com.fierceadventurer.postservice.dto.PostResponseDto;
+import com.fierceadventurer.postservice.dto.PostVariantResponseDto;
+import com.fierceadventurer.postservice.events.PostViewInvalidatedEvent;
+import com.fierceadventurer.postservice.service.OutboxService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bounded LRU cache of mapped post and variant views, capped by an estimate of their heap
+ * size rather than entry count. Every view is filed under its post, so a single
+ * {@link #invalidate(UUID)} drops the post, its variant list and each variant view together.
+ * Invalidation is applied locally at once and broadcast to the other replicas through the
+ * outbox; this replica also receives the broadcast, which clears anything re-read between
+ * the local eviction and the commit.
+ */
+@Component
+@Slf4j
+public class PostViewCache {
+
+    public static final String INVALIDATION_TOPIC = "post-view-invalidation-topic";
+
+    private enum ViewType { POST, VARIANT, VARIANTS }
+
+    private record ViewKey(UUID postId, ViewType type, UUID variantId) {}
+
+    private record CachedView(Object value, UUID ownerId, long bytes, long expiresAt) {}
+
+    private final OutboxService outboxService;
+    private final long ttlNanos;
+    private final long maxBytes;
+
+    private final LinkedHashMap<ViewKey, CachedView> views = new LinkedHashMap<>(256, 0.75f, true);
+    private final Map<UUID, Set<ViewKey>> keysByPost = new HashMap<>();
+    private long currentBytes;
+
+    private final Map<ViewType, Counter> hitCounters = new EnumMap<>(ViewType.class);
+    private final Map<ViewType, Counter> missCounters = new EnumMap<>(ViewType.class);
+
+    public PostViewCache(
+            OutboxService outboxService,
+            MeterRegistry meterRegistry,
+            @Value("${post-view-cache.ttl:10m}") Duration ttl,
+            @Value("${post-view-cache.max-bytes:67108864}") long maxBytes
+    ) {
+        this.outboxService = outboxService;
+        this.ttlNanos = ttl.toNanos();
+        this.maxBytes = maxBytes;
+
+        for (ViewType type : ViewType.values()) {
+            String view = type.name().toLowerCase();
+            hitCounters.put(type, Counter.builder("post.view.cache")
+                    .tag("view", view).tag("result", "hit")
+                    .description("Post views served from the in-process cache")
+                    .register(meterRegistry));
+            missCounters.put(type, Counter.builder("post.view.cache")
+                    .tag("view", view).tag("result", "miss")
+                    .description("Post views that had to be loaded and mapped")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("post.view.cache.bytes", this, PostViewCache::estimatedBytes)
+                .description("Estimated heap held by cached post views")
+                .register(meterRegistry);
+        Gauge.builder("post.view.cache.entries", this, PostViewCache::size)
+                .register(meterRegistry);
+    }
+
+    public Optional<PostResponseDto> getPost(UUID postId) {
+        return get(new ViewKey(postId, ViewType.POST, null), null, PostResponseDto.class);
+    }
+
+    public void putPost(UUID postId, UUID ownerId, PostResponseDto view) {
+        put(new ViewKey(postId, ViewType.POST, null), ownerId, view, estimate(view));
+    }
+
+    public Optional<PostVariantResponseDto> getVariant(UUID postId, UUID userId, UUID variantId) {
+        return get(new ViewKey(postId, ViewType.VARIANT, variantId), userId, PostVariantResponseDto.class);
+    }
+
+    public void putVariant(UUID postId, UUID ownerId, PostVariantResponseDto view) {
+        put(new ViewKey(postId, ViewType.VARIANT, view.getVariantId()), ownerId, view, estimate(view));
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<List<PostVariantResponseDto>> getVariants(UUID postId, UUID userId) {
+        return get(new ViewKey(postId, ViewType.VARIANTS, null), userId, List.class)
+                .map(list -> (List<PostVariantResponseDto>) list);
+    }
+
+    public void putVariants(UUID postId, UUID ownerId, List<PostVariantResponseDto> views) {
+        long bytes = 48;
+        for (PostVariantResponseDto view : views) {
+            bytes += estimate(view);
+        }
+        put(new ViewKey(postId, ViewType.VARIANTS, null), ownerId, List.copyOf(views), bytes);
+    }
+
+    /**
+     * Drops every view of the post here and, once the caller's transaction commits, on every
+     * other replica. Must be called inside the transaction that changes the post.
+     */
+    public void invalidate(UUID postId) {
+        evict(postId);
+        outboxService.enqueue(INVALIDATION_TOPIC, postId.toString(), new PostViewInvalidatedEvent(postId));
+    }
+
+    public synchronized void evict(UUID postId) {
+        Set<ViewKey> keys = keysByPost.remove(postId);
+        if (keys == null) {
+            return;
+        }
+        for (ViewKey key : keys) {
+            CachedView removed = views.remove(key);
+            if (removed != null) {
+                currentBytes -= removed.bytes();
+            }
+        }
+    }
+
+    public synchronized long estimatedBytes() {
+        return currentBytes;
+    }
+
+    public synchronized int size() {
+        return views.size();
+    }
+
+    // A view cached for one owner is a miss for anyone else, so callers fall back to the
+    // normal ownership check and its error.
+    private <T> Optional<T> get(ViewKey key, UUID userId, Class<T> type) {
+        CachedView cached;
+        synchronized (this) {
+            cached = views.get(key);
+            if (cached != null && cached.expiresAt() - System.nanoTime() < 0) {
+                removeEntry(key, cached);
+                cached = null;
+            }
+        }
+        if (cached == null || (userId != null && !userId.equals(cached.ownerId()))) {
+            missCounters.get(key.type()).increment();
+            return Optional.empty();
+        }
+        hitCounters.get(key.type()).increment();
+        return Optional.of(type.cast(cached.value()));
+    }
+
+    private synchronized void put(ViewKey key, UUID ownerId, Object value, long bytes) {
+        if (bytes > maxBytes) {
+            return;
+        }
+        CachedView previous = views.put(key, new CachedView(value, ownerId, bytes, System.nanoTime() + ttlNanos));
+        if (previous != null) {
+            currentBytes -= previous.bytes();
+        }
+        currentBytes += bytes;
+        keysByPost.computeIfAbsent(key.postId(), id -> new HashSet<>()).add(key);
+
+        Iterator<Map.Entry<ViewKey, CachedView>> eldest = views.entrySet().iterator();
+        while (currentBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<ViewKey, CachedView> entry = eldest.next();
+            eldest.remove();
+            currentBytes -= entry.getValue().bytes();
+            unlinkKey(entry.getKey());
+        }
+    }
+
+    private void removeEntry(ViewKey key, CachedView cached) {
+        views.remove(key);
+        currentBytes -= cached.bytes();
+        unlinkKey(key);
+    }
+
+    private void unlinkKey(ViewKey key) {
+        Set<ViewKey> keys = keysByPost.get(key.postId());
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysByPost.remove(key.postId());
+            }
+        }
+    }
+
+    // Rough shallow-plus-strings estimate; it only has to be proportional, not exact.
+    private static long estimate(PostResponseDto view) {
+        long bytes = 96 + stringBytes(view.getTitle()) + stringBytes(view.getContent());
+        if (view.getMediaAssets() != null) {
+            for (MediaAssetDto asset : view.getMediaAssets()) {
+                bytes += 64 + stringBytes(asset.getStorageUrl());
+            }
+        }
+        return bytes;
+    }
+
+    private static long estimate(PostVariantResponseDto view) {
+        long bytes = 96 + stringBytes(view.getPlatform()) + stringBytes(view.getContent());
+        if (view.getHashtags() != null) {
+            for (String hashtag : view.getHashtags()) {
+                bytes += 8 + stringBytes(hashtag);
+            }
+        }
+        if (view.getMediaAssetIds() != null) {
+            bytes += 40L * view.getMediaAssetIds().size();
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length() * 2L;
+    }
+}
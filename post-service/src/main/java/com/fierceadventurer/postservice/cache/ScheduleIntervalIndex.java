@@ -0,0 +1,127 @@
+package com.fierceadventurer.postservice.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted scheduled times per social account. A variant conflicts when another variant on
+ * the same account is scheduled less than the minimum gap away, which is a bounded range
+ * lookup in the account's map instead of a scan over its variants.
+ * <p>
+ * Changes are applied once their transaction commits and broadcast on {@link #CHANGES_TOPIC},
+ * which every replica, this one included, replays into its own copy.
+ */
+@Component
+public class ScheduleIntervalIndex {
+
+    public static final String CHANGES_TOPIC = "schedule-slot-changes-topic";
+
+    private final Map<UUID, ConcurrentSkipListMap<LocalDateTime, Set<UUID>>> slotsByAccount = new ConcurrentHashMap<>();
+    private final Map<UUID, Slot> slotByVariant = new ConcurrentHashMap<>();
+    private final Duration minimumGap;
+
+    public ScheduleIntervalIndex(@Value("${scheduling.conflicts.minimum-gap:30m}") Duration minimumGap) {
+        this.minimumGap = minimumGap;
+    }
+
+    public record Slot(UUID variantId, UUID accountId, LocalDateTime scheduledAt) {}
+
+    public Duration getMinimumGap() {
+        return minimumGap;
+    }
+
+    public synchronized void put(UUID variantId, UUID accountId, LocalDateTime scheduledAt) {
+        remove(variantId);
+        if (accountId == null || scheduledAt == null) {
+            return;
+        }
+        slotsByAccount.computeIfAbsent(accountId, id -> new ConcurrentSkipListMap<>())
+                .computeIfAbsent(scheduledAt, time -> ConcurrentHashMap.newKeySet())
+                .add(variantId);
+        slotByVariant.put(variantId, new Slot(variantId, accountId, scheduledAt));
+    }
+
+    public synchronized void remove(UUID variantId) {
+        Slot slot = slotByVariant.remove(variantId);
+        if (slot == null) {
+            return;
+        }
+        NavigableMap<LocalDateTime, Set<UUID>> slots = slotsByAccount.get(slot.accountId());
+        if (slots != null) {
+            slots.computeIfPresent(slot.scheduledAt(), (time, ids) -> {
+                ids.remove(variantId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /** Variants on the account scheduled strictly within the minimum gap of the given time. */
+    public List<UUID> conflictsWith(UUID accountId, LocalDateTime scheduledAt, UUID excludeVariantId) {
+        ConcurrentSkipListMap<LocalDateTime, Set<UUID>> slots = slotsByAccount.get(accountId);
+        List<UUID> conflicts = new ArrayList<>();
+        if (slots == null || scheduledAt == null) {
+            return conflicts;
+        }
+        slots.subMap(scheduledAt.minus(minimumGap), false, scheduledAt.plus(minimumGap), false)
+                .values().forEach(ids -> ids.stream()
+                        .filter(id -> !id.equals(excludeVariantId))
+                        .forEach(conflicts::add));
+        return conflicts;
+    }
+
+    /** Every variant on the account in [from, to) that has a neighbour within the minimum gap. */
+    public List<Slot> conflictingSlots(UUID accountId, LocalDateTime from, LocalDateTime to) {
+        ConcurrentSkipListMap<LocalDateTime, Set<UUID>> slots = slotsByAccount.get(accountId);
+        List<Slot> conflicts = new ArrayList<>();
+        if (slots == null) {
+            return conflicts;
+        }
+        // Widen by one gap on each side so variants just inside the range see their neighbours.
+        List<Map.Entry<LocalDateTime, Set<UUID>>> window = new ArrayList<>(
+                slots.subMap(from.minus(minimumGap), true, to.plus(minimumGap), false).entrySet());
+        for (int i = 0; i < window.size(); i++) {
+            LocalDateTime time = window.get(i).getKey();
+            if (time.isBefore(from) || !time.isBefore(to)) {
+                continue;
+            }
+            Set<UUID> ids = window.get(i).getValue();
+            boolean crowded = ids.size() > 1
+                    || (i > 0 && Duration.between(window.get(i - 1).getKey(), time).compareTo(minimumGap) < 0)
+                    || (i + 1 < window.size() && Duration.between(time, window.get(i + 1).getKey()).compareTo(minimumGap) < 0);
+            if (crowded) {
+                ids.forEach(id -> conflicts.add(new Slot(id, accountId, time)));
+            }
+        }
+        return conflicts;
+    }
+
+    public synchronized void pruneBefore(LocalDateTime cutoff) {
+        slotByVariant.values().removeIf(slot -> {
+            if (!slot.scheduledAt().isBefore(cutoff)) {
+                return false;
+            }
+            NavigableMap<LocalDateTime, Set<UUID>> slots = slotsByAccount.get(slot.accountId());
+            if (slots != null) {
+                slots.remove(slot.scheduledAt());
+            }
+            return true;
+        });
+        slotsByAccount.values().removeIf(Map::isEmpty);
+    }
+
+    public synchronized void clear() {
+        slotsByAccount.clear();
+        slotByVariant.clear();
+    }
+}
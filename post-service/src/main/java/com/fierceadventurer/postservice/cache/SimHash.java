@@ -0,0 +1,79 @@
+package com.fierceadventurer.postservice.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 64-bit SimHash over word bigrams. Texts that share most of their bigrams end up a few
+ * bits apart, so Hamming distance approximates how much the wording differs.
+ */
+public final class SimHash {
+
+    private static final Pattern WORD_SPLIT = Pattern.compile("[^\\p{L}\\p{N}#@]+");
+
+    private SimHash() {
+    }
+
+    /** Returns null for text with no words, which is never a duplicate of anything. */
+    public static Long fingerprint(String text) {
+        List<String> features = features(text);
+        if (features.isEmpty()) {
+            return null;
+        }
+        int[] weights = new int[64];
+        for (String feature : features) {
+            long hash = hash64(feature);
+            for (int bit = 0; bit < 64; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+        long fingerprint = 0L;
+        for (int bit = 0; bit < 64; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static List<String> features(String text) {
+        List<String> words = new ArrayList<>();
+        if (text != null) {
+            for (String word : WORD_SPLIT.split(text.toLowerCase(Locale.ROOT))) {
+                if (!word.isEmpty()) {
+                    words.add(word);
+                }
+            }
+        }
+        if (words.size() < 2) {
+            return words;
+        }
+        List<String> bigrams = new ArrayList<>(words.size() - 1);
+        for (int i = 0; i + 1 < words.size(); i++) {
+            bigrams.add(words.get(i) + ' ' + words.get(i + 1));
+        }
+        return bigrams;
+    }
+
+    // FNV-1a followed by the SplitMix64 finaliser, so every output bit depends on every input byte.
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 30;
+        hash *= 0xbf58476d1ce4e5b9L;
+        hash ^= hash >>> 27;
+        hash *= 0x94d049bb133111ebL;
+        hash ^= hash >>> 31;
+        return hash;
+    }
+}
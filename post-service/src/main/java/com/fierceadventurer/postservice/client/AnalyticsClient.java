@@ -1,15 +1,23 @@
 package com.fierceadventurer.postservice.client;
 
 import com.fierceadventurer.postservice.config.FeignConfig;
+import com.fierceadventurer.postservice.dto.NextBestTimeRequestDto;
 import com.fierceadventurer.postservice.dto.NextBestTimeResponseDto;
+import com.fierceadventurer.postservice.dto.NextBestTimesResponseDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(name = "analytics-service", url = "${clients.analytics-service.url}",configuration = FeignConfig.class)
 public interface AnalyticsClient {
     @GetMapping("/api/v1/analytics/{socialAccountId}/next-best-time")
     NextBestTimeResponseDto getNextBestTime(@PathVariable("socialAccountId") UUID socialAccountId);
+
+    @PostMapping("/api/v1/analytics/next-best-times")
+    List<NextBestTimesResponseDto> getNextBestTimes(@RequestBody List<NextBestTimeRequestDto> requests);
 }
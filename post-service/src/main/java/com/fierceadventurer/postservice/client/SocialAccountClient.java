@@ -1,11 +1,16 @@
 package com.fierceadventurer.postservice.client;
 
 import com.fierceadventurer.postservice.config.FeignConfig;
+import com.fierceadventurer.postservice.dto.AccountOwnershipDto;
+import com.fierceadventurer.postservice.dto.AccountOwnershipRequestDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
 import java.util.UUID;
 
 @FeignClient(name = "social-account-service" ,
@@ -17,6 +22,9 @@ public interface SocialAccountClient {
     void validateAccountOwnerShip(@PathVariable("accountId") UUID accountId,
                                   @RequestParam("userId") UUID userId);
 
+    @PostMapping("/api/v1/accounts/ownership")
+    List<AccountOwnershipDto> getAccountOwnership(@RequestBody AccountOwnershipRequestDto requestDto);
+
     // Method 2: Used for Quota Management (I added this because your Service logic calls it)
     @GetMapping("/api/v1/accounts/{accountId}/decrement-quota")
     void checkAndDecrementQuota(@PathVariable("accountId") UUID accountId);
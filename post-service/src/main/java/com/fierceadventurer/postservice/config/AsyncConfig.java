@@ -0,0 +1,21 @@
+package com.fierceadventurer.postservice.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * Virtual threads for blocking Feign calls made in parallel. Tasks carry the submitting
+     * request's SecurityContext so FeignConfig can still forward the caller's JWT.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService remoteCallExecutor() {
+        return new DelegatingSecurityContextExecutorService(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
@@ -0,0 +1,72 @@
+package com.fierceadventurer.postservice.config;
+
+import com.fierceadventurer.postservice.events.AiGenerationCompletedEvent;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Map;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    // The consumer and producer factories are deliberately not beans: exposing either would
+    // replace the String-based factories that Boot builds for the other listeners and the outbox.
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, AiGenerationCompletedEvent> aiGenerationBatchListenerFactory(
+            KafkaProperties kafkaProperties,
+            @Value("${ai-drafts.batch.max-records:200}") int maxRecords,
+            @Value("${ai-drafts.batch.retry-interval-ms:1000}") long retryIntervalMs,
+            @Value("${ai-drafts.batch.max-retries:2}") long maxRetries
+    ) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, AiGenerationCompletedEvent.class.getName());
+        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "com.fierceadventurer.postservice.events");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxRecords);
+
+        ConcurrentKafkaListenerContainerFactory<String, AiGenerationCompletedEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(
+                deadLetterRecoverer(kafkaProperties), new FixedBackOff(retryIntervalMs, maxRetries)));
+        return factory;
+    }
+
+    /**
+     * Publishes records the listener gave up on to {@code <topic>.DLT}. Events that failed to save
+     * are written back as JSON; records that never deserialized are forwarded as their raw bytes.
+     */
+    private DeadLetterPublishingRecoverer deadLetterRecoverer(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
+        Map<Class<?>, Serializer<?>> serializers = Map.of(
+                byte[].class, new ByteArraySerializer(),
+                AiGenerationCompletedEvent.class, new JsonSerializer<>().noTypeInfo());
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                props, new StringSerializer(), new DelegatingByTypeSerializer(serializers)));
+
+        // Let the broker pick the partition, so the DLT need not mirror the source partition count.
+        return new DeadLetterPublishingRecoverer(template,
+                (record, exception) -> new TopicPartition(record.topic() + ".DLT", -1));
+    }
+}
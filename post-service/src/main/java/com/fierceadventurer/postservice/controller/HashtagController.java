@@ -0,0 +1,30 @@
+package com.fierceadventurer.postservice.controller;
+
+import com.fierceadventurer.postservice.dto.TrendingHashtagDto;
+import com.fierceadventurer.postservice.enums.Platform;
+import com.fierceadventurer.postservice.service.HashtagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/hashtags")
+@RequiredArgsConstructor
+public class HashtagController {
+
+    private final HashtagService hashtagService;
+
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingHashtagDto>> getTrendingHashtags(
+            @RequestParam Platform platform,
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(hashtagService.getTrending(userId, platform, limit));
+    }
+}
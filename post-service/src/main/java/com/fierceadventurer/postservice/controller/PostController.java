@@ -1,7 +1,10 @@
 package com.fierceadventurer.postservice.controller;
 
+import com.fierceadventurer.postservice.dto.PostPageResponseDto;
 import com.fierceadventurer.postservice.dto.PostRequestDto;
 import com.fierceadventurer.postservice.dto.PostResponseDto;
+import com.fierceadventurer.postservice.dto.PostSearchResponseDto;
+import com.fierceadventurer.postservice.service.PostSearchService;
 import com.fierceadventurer.postservice.service.PostService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +23,7 @@ import java.util.UUID;
 public class PostController {
 
     private final PostService postService;
+    private final PostSearchService postSearchService;
 
     @PostMapping
     public ResponseEntity<PostResponseDto> createPost(@Valid @RequestBody PostRequestDto postRequestDto,
@@ -42,9 +46,28 @@ public class PostController {
         return ResponseEntity.ok(post);
     }
 
+    @GetMapping("/mine")
+    public ResponseEntity<PostPageResponseDto> getMyPosts(@RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "20") int size,
+                                                          JwtAuthenticationToken token) {
+        UUID userId = UUID.fromString(token.getTokenAttributes().get("sub").toString());
+        return ResponseEntity.ok(postService.getPostsForUser(userId, cursor, size));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PostSearchResponseDto> searchPosts(@RequestParam("q") String query,
+                                                             @RequestParam(required = false) String cursor,
+                                                             @RequestParam(defaultValue = "20") int size,
+                                                             JwtAuthenticationToken token) {
+        UUID userId = UUID.fromString(token.getTokenAttributes().get("sub").toString());
+        return ResponseEntity.ok(postSearchService.search(userId, query, cursor, size));
+    }
+
     @PutMapping("/{postId}")
-    public ResponseEntity<PostResponseDto> updatePostById(@PathVariable UUID postId , @Valid @RequestBody PostRequestDto postRequestDto) {
-        PostResponseDto updatedPost = postService.updatePostById(postId , postRequestDto);
+    public ResponseEntity<PostResponseDto> updatePostById(@PathVariable UUID postId , @Valid @RequestBody PostRequestDto postRequestDto,
+                                                          JwtAuthenticationToken token) {
+        UUID userId = UUID.fromString(token.getTokenAttributes().get("sub").toString());
+        PostResponseDto updatedPost = postService.updatePostById(postId , userId , postRequestDto);
         return ResponseEntity.ok(updatedPost);
     }
 
@@ -1,6 +1,7 @@
 package com.fierceadventurer.postservice.controller;
 
 import com.fierceadventurer.postservice.dto.CreatePostVariantRequestDto;
+import com.fierceadventurer.postservice.dto.CreatePostVariantsRequestDto;
 import com.fierceadventurer.postservice.dto.PostVariantResponseDto;
 import com.fierceadventurer.postservice.dto.UpdatePostVariantRequestDto;
 import com.fierceadventurer.postservice.service.PostVariantService;
@@ -32,6 +33,17 @@ public class PostVariantController {
         return new ResponseEntity<>(createdVariant, HttpStatus.CREATED);
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<List<PostVariantResponseDto>> createPostVariants(
+            @PathVariable UUID postId ,
+            @Valid @RequestBody CreatePostVariantsRequestDto createDto,
+            @AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        List<PostVariantResponseDto> createdVariants = postVariantService.createNewVariants(
+                postId, userId, createDto.getTargets());
+        return new ResponseEntity<>(createdVariants, HttpStatus.CREATED);
+    }
+
     @GetMapping("/{variantId}")
     public ResponseEntity<PostVariantResponseDto> getPostVariantById(
             @PathVariable UUID postId, @PathVariable UUID variantId,
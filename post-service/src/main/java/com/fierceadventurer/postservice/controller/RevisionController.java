@@ -0,0 +1,53 @@
+package com.fierceadventurer.postservice.controller;
+
+import com.fierceadventurer.postservice.dto.RevisionDto;
+import com.fierceadventurer.postservice.dto.RevisionSummaryDto;
+import com.fierceadventurer.postservice.service.RevisionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/posts/{postId}")
+@RequiredArgsConstructor
+public class RevisionController {
+
+    private final RevisionService revisionService;
+
+    @GetMapping("/revisions")
+    public ResponseEntity<List<RevisionSummaryDto>> listPostRevisions(@PathVariable UUID postId,
+                                                                      @AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(revisionService.listPostRevisions(postId, userId));
+    }
+
+    @GetMapping("/revisions/{revisionNumber}")
+    public ResponseEntity<RevisionDto> getPostRevision(@PathVariable UUID postId,
+                                                       @PathVariable int revisionNumber,
+                                                       @AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(revisionService.getPostRevision(postId, userId, revisionNumber));
+    }
+
+    @GetMapping("/variants/{variantId}/revisions")
+    public ResponseEntity<List<RevisionSummaryDto>> listVariantRevisions(@PathVariable UUID postId,
+                                                                         @PathVariable UUID variantId,
+                                                                         @AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(revisionService.listVariantRevisions(postId, userId, variantId));
+    }
+
+    @GetMapping("/variants/{variantId}/revisions/{revisionNumber}")
+    public ResponseEntity<RevisionDto> getVariantRevision(@PathVariable UUID postId,
+                                                          @PathVariable UUID variantId,
+                                                          @PathVariable int revisionNumber,
+                                                          @AuthenticationPrincipal Jwt jwt) {
+        UUID userId = UUID.fromString(jwt.getSubject());
+        return ResponseEntity.ok(revisionService.getVariantRevision(postId, userId, variantId, revisionNumber));
+    }
+}
@@ -0,0 +1,22 @@
+package com.fierceadventurer.postservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountOwnershipDto {
+    private UUID accountId;
+    private boolean found;
+    private boolean owned;
+    private String status;
+    private String provider;
+    private String accountType;
+    private String displayName;
+    private String username;
+    private String profileImageUrl;
+}
@@ -0,0 +1,14 @@
+package com.fierceadventurer.postservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountOwnershipRequestDto {
+    private List<UUID> accountIds;
+}
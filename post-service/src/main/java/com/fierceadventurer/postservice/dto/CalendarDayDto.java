@@ -0,0 +1,22 @@
+package com.fierceadventurer.postservice.dto;
+
+import com.fierceadventurer.postservice.enums.Platform;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CalendarDayDto {
+    private LocalDate date;
+    private long scheduledCount;
+    private Map<Platform, Long> countsByPlatform;
+    // Variants scheduled closer than scheduling.conflicts.minimum-gap to another on the same account.
+    private List<UUID> conflictingVariantIds;
+}
@@ -0,0 +1,17 @@
+package com.fierceadventurer.postservice.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class CreatePostVariantsRequestDto {
+
+    // Every target may be for one account, so this stays within what analytics-service schedules at once.
+    @NotEmpty(message = "At least one target must be provided")
+    @Size(max = NextBestTimeRequestDto.MAX_COUNT, message = "At most " + NextBestTimeRequestDto.MAX_COUNT + " targets may be created at once")
+    private List<@Valid CreatePostVariantRequestDto> targets;
+}
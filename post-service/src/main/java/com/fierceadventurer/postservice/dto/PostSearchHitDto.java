@@ -0,0 +1,17 @@
+package com.fierceadventurer.postservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSearchHitDto {
+    private UUID postId;
+    private String title;
+    private String snippet;
+    private float rank;
+}
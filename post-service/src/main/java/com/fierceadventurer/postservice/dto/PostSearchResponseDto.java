@@ -0,0 +1,16 @@
+package com.fierceadventurer.postservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostSearchResponseDto {
+    private List<PostSearchHitDto> items;
+    // Opaque (rank, id) cursor for the next page; null when this is the last page.
+    private String nextCursor;
+}
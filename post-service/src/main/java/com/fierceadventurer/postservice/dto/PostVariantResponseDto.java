@@ -1,5 +1,6 @@
 package com.fierceadventurer.postservice.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -14,4 +15,7 @@ public class PostVariantResponseDto {
     private List<String> hashtags;
     private LocalDateTime scheduledAt;
     private List<UUID> mediaAssetIds;
+    // Only set on create/update responses, e.g. near-duplicate content on the same account.
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private List<String> warnings;
 }
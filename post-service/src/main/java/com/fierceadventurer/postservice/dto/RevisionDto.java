@@ -0,0 +1,20 @@
+package com.fierceadventurer.postservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevisionDto {
+    private int revisionNumber;
+    // Null for variant revisions, which only version the content.
+    private String title;
+    private String content;
+    private UUID editedBy;
+    private LocalDateTime createdAt;
+}
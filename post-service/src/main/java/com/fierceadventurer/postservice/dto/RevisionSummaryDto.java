@@ -0,0 +1,19 @@
+package com.fierceadventurer.postservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevisionSummaryDto {
+    private int revisionNumber;
+    private boolean snapshot;
+    private int storedBytes;
+    private UUID editedBy;
+    private LocalDateTime createdAt;
+}
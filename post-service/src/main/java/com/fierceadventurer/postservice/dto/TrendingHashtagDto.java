@@ -0,0 +1,14 @@
+package com.fierceadventurer.postservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingHashtagDto {
+    private String hashtag;
+    // Count-Min estimate: never below the true count, occasionally above it.
+    private long estimatedUses;
+}
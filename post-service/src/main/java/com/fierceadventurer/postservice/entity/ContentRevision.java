@@ -0,0 +1,55 @@
+package com.fierceadventurer.postservice.entity;
+
+import com.fierceadventurer.postservice.enums.RevisionSubject;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One saved version of a post or variant. Snapshot rows hold the full deflated text; the
+ * others hold a deflated delta against the previous revision.
+ */
+@Entity
+@Table(name = "content_revisions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_content_revisions_subject_number",
+                columnNames = {"subject", "subject_id", "revision_number"}))
+@Getter
+@Setter
+@NoArgsConstructor
+public class ContentRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID revisionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "subject", nullable = false, updatable = false)
+    private RevisionSubject subject;
+
+    @Column(name = "subject_id", nullable = false, updatable = false)
+    private UUID subjectId;
+
+    @Column(name = "revision_number", nullable = false, updatable = false)
+    private int revisionNumber;
+
+    @Column(nullable = false, updatable = false)
+    private boolean snapshot;
+
+    @Column(nullable = false, updatable = false, length = 10485760)
+    private byte[] payload;
+
+    @Column(name = "stored_bytes", nullable = false, updatable = false)
+    private int storedBytes;
+
+    @Column(name = "edited_by", updatable = false)
+    private UUID editedBy;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package com.fierceadventurer.postservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Interned hashtag. Variants reference tags by id, so each distinct tag is stored once
+ * in its normalised form: lower case, without the leading '#'.
+ */
+@Entity
+@Table(name = "hashtags")
+@Getter
+@Setter
+@NoArgsConstructor
+public class Hashtag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "id", updatable = false, nullable = false)
+    private UUID id;
+
+    @Column(name = "name", nullable = false, unique = true, updatable = false)
+    private String name;
+
+    public static String normalize(String raw) {
+        if (raw == null) {
+            return "";
+        }
+        String tag = raw.trim();
+        while (tag.startsWith("#")) {
+            tag = tag.substring(1);
+        }
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -11,7 +11,9 @@ import java.util.UUID;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "media_assets")
+@Table(name = "media_assets", indexes = {
+        @Index(name = "idx_media_assets_post", columnList = "post_id")
+})
 @Entity
 public class MediaAsset {
     @Id
@@ -12,7 +12,9 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_user_last_edited", columnList = "user_id, last_edited DESC, id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -25,7 +27,7 @@ public class Post {
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
-    @Column(nullable = false, updatable = false)
+    @Column(name = "user_id", nullable = false, updatable = false)
     private UUID userId;
 
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -46,6 +48,10 @@ public class Post {
     @Column(name = "last_edited")
     private LocalDateTime lastEdited;
 
+    // Set for drafts created from ai-service events; unique so redeliveries cannot duplicate them.
+    @Column(name = "ai_request_id", unique = true)
+    private UUID aiRequestId;
+
     @OneToMany(
         mappedBy = "post",
         cascade = CascadeType.ALL,
@@ -12,7 +12,9 @@ import java.util.*;
 @Setter
 @NoArgsConstructor
 @Entity
-@Table(name = "post_variants")
+@Table(name = "post_variants", indexes = {
+        @Index(name = "idx_post_variants_account_scheduled", columnList = "social_account_id, scheduled_at")
+})
 public class PostVariant {
 
     @Id
@@ -28,12 +30,25 @@ public class PostVariant {
     @Column(nullable = false)
     private Platform platform;
 
+    // Null for variants created before the account was recorded on the variant.
+    @Column(name = "social_account_id")
+    private UUID socialAccountId;
+
     @Column(columnDefinition = "TEXT")
     private String content;
 
-    @ElementCollection
-    @CollectionTable(name = "post_variant_hashtags" , joinColumns = @JoinColumn(name = "variant_id"))
-    private List<String> hashtags = new ArrayList<>();
+    // 64-bit SimHash of content, recomputed on every save; null when there is no text.
+    @Column(name = "content_simhash")
+    private Long contentSimhash;
+
+    @ManyToMany
+    @JoinTable(
+            name = "post_variant_hashtag_refs",
+            joinColumns = @JoinColumn(name = "variant_id"),
+            inverseJoinColumns = @JoinColumn(name = "hashtag_id")
+    )
+    @OrderColumn(name = "position")
+    private List<Hashtag> hashtagRefs = new ArrayList<>();
 
     @ManyToMany
     @JoinTable(
@@ -43,7 +58,10 @@ public class PostVariant {
     )
     private List<MediaAsset> mediaAssets= new ArrayList<>();
 
-    @Column(nullable = false)
+    @Column(name = "scheduled_at", nullable = false)
     private LocalDateTime scheduledAt;
 
+    public List<String> getHashtags() {
+        return hashtagRefs.stream().map(Hashtag::getName).toList();
+    }
 }
@@ -0,0 +1,6 @@
+package com.fierceadventurer.postservice.enums;
+
+public enum RevisionSubject {
+    POST,
+    VARIANT
+}
@@ -0,0 +1,14 @@
+package com.fierceadventurer.postservice.events;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+public class AccountLifecycleEvent {
+    private UUID socialAccountId;
+    private UUID previousUserId;
+    private String eventType;
+}
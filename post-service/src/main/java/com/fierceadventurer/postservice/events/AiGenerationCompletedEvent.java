@@ -3,9 +3,13 @@ package com.fierceadventurer.postservice.events;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.UUID;
+
 @Data
 @NoArgsConstructor
 public class AiGenerationCompletedEvent {
+    private UUID requestId;
+    private UUID userId;
     private String prompt;
     private String generatedContent;
     private String platform;
@@ -0,0 +1,19 @@
+package com.fierceadventurer.postservice.events;
+
+import com.fierceadventurer.postservice.enums.Platform;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Tags newly attached to one of a user's variants on the given platform, one use each. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HashtagUsageRecordedEvent {
+    private UUID userId;
+    private Platform platform;
+    private List<String> hashtags;
+}
@@ -0,0 +1,14 @@
+package com.fierceadventurer.postservice.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostViewInvalidatedEvent {
+    private UUID postId;
+}
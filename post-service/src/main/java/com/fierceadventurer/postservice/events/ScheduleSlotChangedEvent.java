@@ -0,0 +1,18 @@
+package com.fierceadventurer.postservice.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** A variant's slot in the schedule interval index; no account or time means it was removed. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleSlotChangedEvent {
+    private UUID variantId;
+    private UUID socialAccountId;
+    private LocalDateTime scheduledAt;
+}
@@ -0,0 +1,19 @@
+package com.fierceadventurer.postservice.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** A variant's entry in the near-duplicate index; no fingerprint or account means it was removed. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VariantFingerprintChangedEvent {
+    private UUID variantId;
+    private UUID socialAccountId;
+    private Long contentSimhash;
+    private LocalDateTime scheduledAt;
+}
@@ -0,0 +1,36 @@
+package com.fierceadventurer.postservice.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fierceadventurer.postservice.cache.AccountOwnershipCache;
+import com.fierceadventurer.postservice.events.AccountLifecycleEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class AccountLifecycleListener {
+
+    private final AccountOwnershipCache accountOwnershipCache;
+    private final ObjectMapper objectMapper;
+
+    // Every replica holds its own cache, so each one needs its own consumer group. The group is
+    // keyed by the stable instance id, and a fresh replica starts from the latest offset since
+    // its cache is empty anyway.
+    @KafkaListener(topics = "social-account-lifecycle-topic",
+            groupId = "post-service-ownership-${instance.id}",
+            properties = "auto.offset.reset=latest")
+    public void handleAccountLifecycle(String message){
+        try {
+            AccountLifecycleEvent event = objectMapper.readValue(message, AccountLifecycleEvent.class);
+            accountOwnershipCache.evictAccount(event.getSocialAccountId());
+            log.info("Evicted cached ownership for account {} after {} event",
+                    event.getSocialAccountId(), event.getEventType());
+        }
+        catch (Exception e){
+            log.error("Failed to process account lifecycle event", e);
+        }
+    }
+}
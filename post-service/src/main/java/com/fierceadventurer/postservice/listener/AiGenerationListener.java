@@ -1,16 +1,23 @@
 package com.fierceadventurer.postservice.listener;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fierceadventurer.postservice.entity.Post;
 import com.fierceadventurer.postservice.enums.PostStatus;
 import com.fierceadventurer.postservice.events.AiGenerationCompletedEvent;
 import com.fierceadventurer.postservice.repository.PostRepository;
+import com.fierceadventurer.postservice.service.PostSearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -18,29 +25,103 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class AiGenerationListener {
 
+    // Events published before ai-service carried the author are still saved under this id.
+    private static final UUID UNKNOWN_USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000000");
+
     private final PostRepository postRepository;
-    private final ObjectMapper objectMapper;
+    private final PostSearchService postSearchService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Saves one poll's worth of AI drafts in a single transaction. Redeliveries are dropped by
+     * requestId with one lookup for the whole batch. If the batch fails, the records are saved
+     * one per transaction to find the culprit, and a {@link BatchListenerFailedException} names
+     * it so the container commits everything before it and only retries (then dead-letters)
+     * that record. Unreadable records are handed straight to the dead-letter topic.
+     */
+    @KafkaListener(topics = "ai-service-completed-topic" , groupId = "post-service-ai-group",
+            containerFactory = "aiGenerationBatchListenerFactory")
+    public void handleAiGenerations(List<ConsumerRecord<String, AiGenerationCompletedEvent>> records){
+        log.info("Received {} AI Content Events", records.size());
 
-    @KafkaListener(topics = "ai-service-completed-topic" , groupId = "post-service-ai-group")
-    @Transactional
-    public void handleAiGeneration(String message){
-        log.info("Received AI Content Event: {}", message);
+        int firstUnreadable = 0;
+        while (firstUnreadable < records.size() && isReadable(records.get(firstUnreadable))) {
+            firstUnreadable++;
+        }
+        List<ConsumerRecord<String, AiGenerationCompletedEvent>> readable = records.subList(0, firstUnreadable);
 
         try {
-            AiGenerationCompletedEvent event = objectMapper.readValue(message , AiGenerationCompletedEvent.class);
+            transactionTemplate.executeWithoutResult(status -> saveDrafts(readable));
+        }
+        catch (RuntimeException batchFailure) {
+            log.warn("Saving {} AI drafts as one batch failed; retrying them one by one", readable.size(), batchFailure);
+            for (int index = 0; index < readable.size(); index++) {
+                List<ConsumerRecord<String, AiGenerationCompletedEvent>> single = List.of(readable.get(index));
+                try {
+                    transactionTemplate.executeWithoutResult(status -> saveDrafts(single));
+                }
+                catch (RuntimeException e) {
+                    throw new BatchListenerFailedException("Failed to save AI draft", e, index);
+                }
+            }
+        }
+
+        if (firstUnreadable < records.size()) {
+            ConsumerRecord<String, AiGenerationCompletedEvent> record = records.get(firstUnreadable);
+            log.error("Unreadable AI generation event at {}-{}@{}", record.topic(), record.partition(), record.offset());
+            throw new BatchListenerFailedException("Unreadable AI generation event", firstUnreadable);
+        }
+    }
 
-            Post post = new Post();
-            String title = "AI Draft" + (event.getPrompt().length() > 100 ? event.getPrompt().substring(0,97) + "..." : event.getPrompt());
+    private static boolean isReadable(ConsumerRecord<String, AiGenerationCompletedEvent> record) {
+        return record.value() != null && record.value().getGeneratedContent() != null;
+    }
+
+    private void saveDrafts(List<ConsumerRecord<String, AiGenerationCompletedEvent>> records) {
+        Map<UUID, AiGenerationCompletedEvent> byRequestId = new LinkedHashMap<>();
+        List<AiGenerationCompletedEvent> untracked = new ArrayList<>();
+        for (ConsumerRecord<String, AiGenerationCompletedEvent> record : records) {
+            AiGenerationCompletedEvent event = record.value();
+            if (event.getRequestId() == null) {
+                untracked.add(event);
+            } else {
+                byRequestId.putIfAbsent(event.getRequestId(), event);
+            }
+        }
+
+        if (!byRequestId.isEmpty()) {
+            Set<UUID> alreadySaved = postRepository.findExistingAiRequestIds(byRequestId.keySet());
+            byRequestId.keySet().removeAll(alreadySaved);
+            if (!alreadySaved.isEmpty()) {
+                log.info("Skipped {} already saved AI drafts", alreadySaved.size());
+            }
+        }
 
-            post.setTitle(title);
-            post.setContent(event.getGeneratedContent());
-            post.setStatus(PostStatus.DRAFT);
-            post.setUserId(UUID.fromString("00000000-0000-0000-0000-000000000000"));
-            postRepository.save(post);
-            log.info("Auto-saved AI Draft with ID: {}", post.getId());
+        List<Post> drafts = new ArrayList<>(byRequestId.size() + untracked.size());
+        byRequestId.values().forEach(event -> drafts.add(toDraft(event)));
+        untracked.forEach(event -> drafts.add(toDraft(event)));
+        if (drafts.isEmpty()) {
+            return;
         }
-        catch (Exception e){
-            log.error("Failed to process AI generation event", e);
+
+        List<Post> saved = postRepository.saveAll(drafts);
+        postSearchService.indexAll(saved);
+        log.info("Auto-saved {} AI Drafts", saved.size());
+    }
+
+    private Post toDraft(AiGenerationCompletedEvent event) {
+        String prompt = event.getPrompt() == null ? "" : event.getPrompt();
+        Post post = new Post();
+        post.setTitle("AI Draft" + (prompt.length() > 100 ? prompt.substring(0,97) + "..." : prompt));
+        post.setContent(event.getGeneratedContent());
+        post.setStatus(PostStatus.DRAFT);
+        post.setAiRequestId(event.getRequestId());
+        if (event.getUserId() != null) {
+            post.setUserId(event.getUserId());
+        } else {
+            log.warn("AI generation event {} has no user id; saving under the placeholder user", event.getRequestId());
+            post.setUserId(UNKNOWN_USER_ID);
         }
+        return post;
     }
 }
@@ -0,0 +1,35 @@
+package com.fierceadventurer.postservice.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fierceadventurer.postservice.cache.HashtagTrendTracker;
+import com.fierceadventurer.postservice.events.HashtagUsageRecordedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class HashtagUsageListener {
+
+    private final HashtagTrendTracker hashtagTrendTracker;
+    private final ObjectMapper objectMapper;
+
+    // Every replica holds its own sketches, so each one needs its own consumer group. A fresh
+    // replica rebuilds them from the database, so it starts from the latest offset.
+    @KafkaListener(topics = HashtagTrendTracker.CHANGES_TOPIC,
+            groupId = "post-service-hashtags-${instance.id}",
+            properties = "auto.offset.reset=latest")
+    public void handleHashtagUsage(String message){
+        try {
+            HashtagUsageRecordedEvent event = objectMapper.readValue(message, HashtagUsageRecordedEvent.class);
+            event.getHashtags().forEach(tag ->
+                    hashtagTrendTracker.record(event.getUserId(), event.getPlatform(), tag, 1));
+            log.debug("Recorded {} hashtag uses for user {}", event.getHashtags().size(), event.getUserId());
+        }
+        catch (Exception e){
+            log.error("Failed to process hashtag usage event", e);
+        }
+    }
+}
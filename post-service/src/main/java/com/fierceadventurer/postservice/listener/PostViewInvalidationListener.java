@@ -0,0 +1,35 @@
+package com.fierceadventurer.postservice.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fierceadventurer.postservice.cache.PostViewCache;
+import com.fierceadventurer.postservice.events.PostViewInvalidatedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PostViewInvalidationListener {
+
+    private final PostViewCache postViewCache;
+    private final ObjectMapper objectMapper;
+
+    // Every replica holds its own cache, so each one needs its own consumer group. The group is
+    // keyed by the stable instance id, and a fresh replica starts from the latest offset since
+    // its cache is empty anyway.
+    @KafkaListener(topics = PostViewCache.INVALIDATION_TOPIC,
+            groupId = "post-service-views-${instance.id}",
+            properties = "auto.offset.reset=latest")
+    public void handleInvalidation(String message){
+        try {
+            PostViewInvalidatedEvent event = objectMapper.readValue(message, PostViewInvalidatedEvent.class);
+            postViewCache.evict(event.getPostId());
+            log.debug("Evicted cached views for post {}", event.getPostId());
+        }
+        catch (Exception e){
+            log.error("Failed to process post view invalidation event", e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.fierceadventurer.postservice.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fierceadventurer.postservice.cache.ScheduleIntervalIndex;
+import com.fierceadventurer.postservice.events.ScheduleSlotChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ScheduleSlotListener {
+
+    private final ScheduleIntervalIndex scheduleIntervalIndex;
+    private final ObjectMapper objectMapper;
+
+    // Every replica holds its own index, so each one needs its own consumer group. A fresh
+    // replica loads the index from the database, so it starts from the latest offset.
+    @KafkaListener(topics = ScheduleIntervalIndex.CHANGES_TOPIC,
+            groupId = "post-service-schedule-${instance.id}",
+            properties = "auto.offset.reset=latest")
+    public void handleSlotChange(String message){
+        try {
+            ScheduleSlotChangedEvent event = objectMapper.readValue(message, ScheduleSlotChangedEvent.class);
+            scheduleIntervalIndex.put(event.getVariantId(), event.getSocialAccountId(), event.getScheduledAt());
+            log.debug("Applied schedule slot change for variant {}", event.getVariantId());
+        }
+        catch (Exception e){
+            log.error("Failed to process schedule slot change event", e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.fierceadventurer.postservice.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fierceadventurer.postservice.cache.NearDuplicateIndex;
+import com.fierceadventurer.postservice.events.VariantFingerprintChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class VariantFingerprintListener {
+
+    private final NearDuplicateIndex nearDuplicateIndex;
+    private final ObjectMapper objectMapper;
+
+    // Every replica holds its own index, so each one needs its own consumer group. A fresh
+    // replica loads the index from the database, so it starts from the latest offset.
+    @KafkaListener(topics = NearDuplicateIndex.CHANGES_TOPIC,
+            groupId = "post-service-fingerprints-${instance.id}",
+            properties = "auto.offset.reset=latest")
+    public void handleFingerprintChange(String message){
+        try {
+            VariantFingerprintChangedEvent event = objectMapper.readValue(message, VariantFingerprintChangedEvent.class);
+            if (event.getContentSimhash() == null || event.getSocialAccountId() == null || event.getScheduledAt() == null) {
+                nearDuplicateIndex.remove(event.getVariantId());
+            } else {
+                nearDuplicateIndex.put(new NearDuplicateIndex.Entry(event.getVariantId(), event.getSocialAccountId(),
+                        event.getContentSimhash(), event.getScheduledAt()));
+            }
+            log.debug("Applied fingerprint change for variant {}", event.getVariantId());
+        }
+        catch (Exception e){
+            log.error("Failed to process variant fingerprint change event", e);
+        }
+    }
+}
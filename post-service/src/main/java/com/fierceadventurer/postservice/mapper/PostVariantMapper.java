@@ -9,16 +9,24 @@ import org.mapstruct.*;
 @Mapper(componentModel = "spring")
 public interface PostVariantMapper {
 
+    @Mapping(target = "warnings" , ignore = true)
     PostVariantResponseDto toDto(PostVariant postVariant);
 
     @Mapping(target = "variantId" , ignore = true)
     @Mapping(target = "post" , ignore = true)
     @Mapping(target = "mediaAssets" , ignore = true)
+    @Mapping(target = "hashtagRefs" , ignore = true)
+    @Mapping(target = "hashtags" , ignore = true)
+    @Mapping(target = "contentSimhash" , ignore = true)
     PostVariant toEntity(CreatePostVariantRequestDto requestDtoDto);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "variantId" , ignore = true)
     @Mapping(target = "post" , ignore = true)
     @Mapping(target = "mediaAssets" , ignore = true)
+    @Mapping(target = "hashtagRefs" , ignore = true)
+    @Mapping(target = "hashtags" , ignore = true)
+    @Mapping(target = "contentSimhash" , ignore = true)
+    @Mapping(target = "socialAccountId" , ignore = true)
     void updateFromDto(UpdatePostVariantRequestDto requestDtoDto, @MappingTarget PostVariant postVariant);
 }
@@ -0,0 +1,11 @@
+package com.fierceadventurer.postservice.repository;
+
+import com.fierceadventurer.postservice.enums.Platform;
+
+import java.time.LocalDate;
+
+public interface CalendarDayCount {
+    LocalDate getDay();
+    Platform getPlatform();
+    Long getVariants();
+}
@@ -0,0 +1,35 @@
+package com.fierceadventurer.postservice.repository;
+
+import com.fierceadventurer.postservice.entity.ContentRevision;
+import com.fierceadventurer.postservice.enums.RevisionSubject;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface ContentRevisionRepository extends JpaRepository<ContentRevision, UUID> {
+
+    @Query("SELECT MAX(r.revisionNumber) FROM ContentRevision r WHERE r.subject = :subject AND r.subjectId = :subjectId")
+    Optional<Integer> findLatestRevisionNumber(@Param("subject") RevisionSubject subject,
+                                               @Param("subjectId") UUID subjectId);
+
+    // Payloads stay in the table; listing only needs the metadata.
+    @Query("SELECT r.revisionNumber AS revisionNumber, r.snapshot AS snapshot, r.storedBytes AS storedBytes, " +
+            "r.editedBy AS editedBy, r.createdAt AS createdAt " +
+            "FROM ContentRevision r WHERE r.subject = :subject AND r.subjectId = :subjectId " +
+            "ORDER BY r.revisionNumber DESC")
+    List<RevisionSummary> findSummaries(@Param("subject") RevisionSubject subject,
+                                        @Param("subjectId") UUID subjectId);
+
+    @Query("SELECT MAX(r.revisionNumber) FROM ContentRevision r WHERE r.subject = :subject " +
+            "AND r.subjectId = :subjectId AND r.snapshot = true AND r.revisionNumber <= :revisionNumber")
+    Optional<Integer> findSnapshotAtOrBefore(@Param("subject") RevisionSubject subject,
+                                             @Param("subjectId") UUID subjectId,
+                                             @Param("revisionNumber") int revisionNumber);
+
+    List<ContentRevision> findBySubjectAndSubjectIdAndRevisionNumberBetweenOrderByRevisionNumber(
+            RevisionSubject subject, UUID subjectId, int from, int to);
+}
@@ -0,0 +1,74 @@
+package com.fierceadventurer.postservice.repository;
+
+import com.fierceadventurer.postservice.entity.Hashtag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface HashtagRepository extends JpaRepository<Hashtag, UUID> {
+
+    List<Hashtag> findAllByNameIn(Collection<String> names);
+
+    // Concurrent writers may intern the same new tag; the loser simply reads the winner's row.
+    @Modifying
+    @Query(value = "INSERT INTO hashtags (id, name) VALUES (:id, :name) ON CONFLICT (name) DO NOTHING",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("name") String name);
+
+    @Query("SELECT p.userId AS userId, v.platform AS platform, h.name AS name, COUNT(h) AS uses " +
+            "FROM PostVariant v JOIN v.post p JOIN v.hashtagRefs h " +
+            "WHERE v.scheduledAt >= :since " +
+            "GROUP BY p.userId, v.platform, h.name")
+    List<HashtagUsage> countUsageSince(@Param("since") LocalDateTime since);
+
+    /**
+     * One-off move from the old post_variant_hashtags element collection into the dictionary.
+     * Interning is idempotent, so it is safe to run again before {@link #linkLegacyHashtags()}.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO hashtags (id, name)
+            SELECT gen_random_uuid(), tag FROM (
+                SELECT DISTINCT lower(btrim(ltrim(btrim(hashtags), '#'))) AS tag FROM post_variant_hashtags
+            ) legacy
+            WHERE tag <> ''
+            ON CONFLICT (name) DO NOTHING
+            """, nativeQuery = true)
+    int internLegacyHashtags();
+
+    /**
+     * Copies the legacy rows of every variant that has no references yet into the reference
+     * table, keeping their order per variant. Variants already linked, by an earlier run or
+     * by a write since, are left alone, so the copy can be repeated safely.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO post_variant_hashtag_refs (variant_id, hashtag_id, position)
+            SELECT legacy.variant_id, h.id, ROW_NUMBER() OVER (PARTITION BY legacy.variant_id ORDER BY legacy.ctid) - 1
+            FROM post_variant_hashtags legacy
+            JOIN hashtags h ON h.name = lower(btrim(ltrim(btrim(legacy.hashtags), '#')))
+            WHERE NOT EXISTS (SELECT 1 FROM post_variant_hashtag_refs r WHERE r.variant_id = legacy.variant_id)
+            """, nativeQuery = true)
+    int linkLegacyHashtags();
+
+    /** Legacy rows with a usable tag whose variant has no references yet. */
+    @Query(value = """
+            SELECT COUNT(*) FROM post_variant_hashtags legacy
+            WHERE lower(btrim(ltrim(btrim(legacy.hashtags), '#'))) <> ''
+            AND NOT EXISTS (SELECT 1 FROM post_variant_hashtag_refs r WHERE r.variant_id = legacy.variant_id)
+            """, nativeQuery = true)
+    long countUnlinkedLegacyHashtags();
+
+    /** Legacy rows that normalise to an empty tag and so have nothing to migrate. */
+    @Query(value = """
+            SELECT COUNT(*) FROM post_variant_hashtags
+            WHERE hashtags IS NULL OR lower(btrim(ltrim(btrim(hashtags), '#'))) = ''
+            """, nativeQuery = true)
+    long countBlankLegacyHashtags();
+}
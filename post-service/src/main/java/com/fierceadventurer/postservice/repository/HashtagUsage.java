@@ -0,0 +1,12 @@
+package com.fierceadventurer.postservice.repository;
+
+import com.fierceadventurer.postservice.enums.Platform;
+
+import java.util.UUID;
+
+public interface HashtagUsage {
+    UUID getUserId();
+    Platform getPlatform();
+    String getName();
+    Long getUses();
+}
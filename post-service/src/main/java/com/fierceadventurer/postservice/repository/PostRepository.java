@@ -2,16 +2,53 @@ package com.fierceadventurer.postservice.repository;
 import com.fierceadventurer.postservice.dto.PostResponseDto;
 import com.fierceadventurer.postservice.entity.Post;
 import com.fierceadventurer.postservice.enums.PostStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 public interface PostRepository extends JpaRepository<Post, UUID>  {
     Optional<Post> findByIdAndStatusNot(UUID id, PostStatus status);
+
+    // Serialises edits of one post, so the overwritten text and the next revision number stay consistent.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Post p WHERE p.id = :id")
+    Optional<Post> findByIdForUpdate(@Param("id") UUID id);
     Page<Post> findAllByStatusNot(PostStatus status, Pageable pageable);
+
+    // Keyset pages over idx_posts_user_last_edited; no OFFSET and no count query.
+    @Query("SELECT p FROM Post p WHERE p.userId = :userId AND p.status <> :status " +
+            "ORDER BY p.lastEdited DESC, p.id DESC")
+    List<Post> findFirstPageByUser(@Param("userId") UUID userId,
+                                   @Param("status") PostStatus status,
+                                   Limit limit);
+
+    @Query("SELECT p FROM Post p WHERE p.userId = :userId AND p.status <> :status " +
+            "AND (p.lastEdited < :lastEdited OR (p.lastEdited = :lastEdited AND p.id < :id)) " +
+            "ORDER BY p.lastEdited DESC, p.id DESC")
+    List<Post> findPageByUserAfter(@Param("userId") UUID userId,
+                                   @Param("status") PostStatus status,
+                                   @Param("lastEdited") LocalDateTime lastEdited,
+                                   @Param("id") UUID id,
+                                   Limit limit);
+
+    @Query("SELECT p.aiRequestId FROM Post p WHERE p.aiRequestId IN :requestIds")
+    Set<UUID> findExistingAiRequestIds(@Param("requestIds") Collection<UUID> requestIds);
+
+    // Initialises mediaAssets for a whole page of already-loaded posts in one round trip.
+    @Query("SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.mediaAssets WHERE p.id IN :postIds")
+    List<Post> fetchMediaAssets(@Param("postIds") Collection<UUID> postIds);
 }
@@ -0,0 +1,14 @@
+package com.fierceadventurer.postservice.repository;
+
+import java.util.UUID;
+
+/**
+ * One ranked full-text match. The snippet is produced by ts_headline and wraps matched
+ * terms in &lt;mark&gt; tags.
+ */
+public interface PostSearchHit {
+    UUID getId();
+    String getTitle();
+    Float getRank();
+    String getSnippet();
+}
@@ -0,0 +1,95 @@
+package com.fierceadventurer.postservice.repository;
+
+import com.fierceadventurer.postservice.entity.Post;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Native queries over posts.search_vector. The column and its GIN index are not mapped on
+ * {@link Post} because they only exist on Postgres; PostgresPostSearchServiceImpl creates them.
+ */
+public interface PostSearchRepository extends Repository<Post, UUID> {
+
+    // Title and hashtags weigh most, then the post body, then the per-platform variant copy.
+    String SEARCH_VECTOR = """
+            setweight(to_tsvector('english', coalesce(p.title, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce((
+                SELECT string_agg(h.name, ' ')
+                FROM post_variant_hashtag_refs r
+                JOIN hashtags h ON h.id = r.hashtag_id
+                JOIN post_variants v ON v.variant_id = r.variant_id
+                WHERE v.post_id = p.id), '')), 'A') ||
+            setweight(to_tsvector('english', coalesce(p.content, '')), 'B') ||
+            setweight(to_tsvector('english', coalesce((
+                SELECT string_agg(v.content, ' ')
+                FROM post_variants v
+                WHERE v.post_id = p.id), '')), 'C')
+            """;
+
+    @Modifying
+    @Query(value = "UPDATE posts p SET search_vector = " + SEARCH_VECTOR + " WHERE p.id = :postId",
+            nativeQuery = true)
+    int refreshSearchVector(@Param("postId") UUID postId);
+
+    @Modifying
+    @Query(value = "UPDATE posts p SET search_vector = " + SEARCH_VECTOR + " WHERE p.id IN (:postIds)",
+            nativeQuery = true)
+    int refreshSearchVectors(@Param("postIds") Collection<UUID> postIds);
+
+    @Modifying
+    @Query(value = "UPDATE posts p SET search_vector = " + SEARCH_VECTOR + " WHERE p.search_vector IS NULL",
+            nativeQuery = true)
+    int backfillSearchVectors();
+
+    // Ranks and pages first, so ts_headline only runs for the rows actually returned.
+    @Query(value = """
+            SELECT page.id AS "id", page.title AS "title", page.rank AS "rank",
+                   ts_headline('english', page.content, websearch_to_tsquery('english', :query),
+                               'MaxFragments=2, MinWords=5, MaxWords=20, StartSel=<mark>, StopSel=</mark>') AS "snippet"
+            FROM (
+                SELECT p.id, p.title, p.content,
+                       ts_rank_cd(p.search_vector, websearch_to_tsquery('english', :query)) AS rank
+                FROM posts p
+                WHERE p.user_id = :userId
+                  AND p.status <> 'DELETED'
+                  AND p.search_vector @@ websearch_to_tsquery('english', :query)
+                ORDER BY rank DESC, p.id DESC
+                LIMIT :limit
+            ) page
+            ORDER BY page.rank DESC, page.id DESC
+            """, nativeQuery = true)
+    List<PostSearchHit> searchFirstPage(@Param("userId") UUID userId,
+                                        @Param("query") String query,
+                                        @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT page.id AS "id", page.title AS "title", page.rank AS "rank",
+                   ts_headline('english', page.content, websearch_to_tsquery('english', :query),
+                               'MaxFragments=2, MinWords=5, MaxWords=20, StartSel=<mark>, StopSel=</mark>') AS "snippet"
+            FROM (
+                SELECT ranked.* FROM (
+                    SELECT p.id, p.title, p.content,
+                           ts_rank_cd(p.search_vector, websearch_to_tsquery('english', :query)) AS rank
+                    FROM posts p
+                    WHERE p.user_id = :userId
+                      AND p.status <> 'DELETED'
+                      AND p.search_vector @@ websearch_to_tsquery('english', :query)
+                ) ranked
+                WHERE ranked.rank < :afterRank OR (ranked.rank = :afterRank AND ranked.id < :afterId)
+                ORDER BY ranked.rank DESC, ranked.id DESC
+                LIMIT :limit
+            ) page
+            ORDER BY page.rank DESC, page.id DESC
+            """, nativeQuery = true)
+    List<PostSearchHit> searchPageAfter(@Param("userId") UUID userId,
+                                        @Param("query") String query,
+                                        @Param("afterRank") float afterRank,
+                                        @Param("afterId") UUID afterId,
+                                        @Param("limit") int limit);
+}
@@ -1,9 +1,73 @@
 package com.fierceadventurer.postservice.repository;
 
 import com.fierceadventurer.postservice.entity.PostVariant;
+import com.fierceadventurer.postservice.enums.PostStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface PostVariantRepository extends JpaRepository<PostVariant, UUID> {
+
+    // Serialises edits of one variant, so the overwritten text and the next revision number stay consistent.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT v FROM PostVariant v WHERE v.variantId = :variantId")
+    Optional<PostVariant> findByIdForUpdate(@Param("variantId") UUID variantId);
+
+    @Query("SELECT CAST(v.scheduledAt AS LocalDate) AS day, v.platform AS platform, COUNT(v) AS variants " +
+            "FROM PostVariant v JOIN v.post p " +
+            "WHERE p.userId = :userId AND p.status <> :status " +
+            "AND v.scheduledAt >= :from AND v.scheduledAt < :to " +
+            "GROUP BY CAST(v.scheduledAt AS LocalDate), v.platform " +
+            "ORDER BY CAST(v.scheduledAt AS LocalDate)")
+    List<CalendarDayCount> countByDay(@Param("userId") UUID userId,
+                                      @Param("status") PostStatus status,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    @Query("SELECT CAST(v.scheduledAt AS LocalDate) AS day, v.platform AS platform, COUNT(v) AS variants " +
+            "FROM PostVariant v JOIN v.post p " +
+            "WHERE p.userId = :userId AND p.status <> :status AND v.socialAccountId = :accountId " +
+            "AND v.scheduledAt >= :from AND v.scheduledAt < :to " +
+            "GROUP BY CAST(v.scheduledAt AS LocalDate), v.platform " +
+            "ORDER BY CAST(v.scheduledAt AS LocalDate)")
+    List<CalendarDayCount> countByDayForAccount(@Param("userId") UUID userId,
+                                                @Param("status") PostStatus status,
+                                                @Param("accountId") UUID accountId,
+                                                @Param("from") LocalDateTime from,
+                                                @Param("to") LocalDateTime to);
+
+    @Query("SELECT DISTINCT v.socialAccountId FROM PostVariant v JOIN v.post p " +
+            "WHERE p.userId = :userId AND p.status <> :status AND v.socialAccountId IS NOT NULL " +
+            "AND v.scheduledAt >= :from AND v.scheduledAt < :to")
+    List<UUID> findScheduledAccountIds(@Param("userId") UUID userId,
+                                       @Param("status") PostStatus status,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    @Query("SELECT v.variantId AS variantId, v.socialAccountId AS socialAccountId, v.scheduledAt AS scheduledAt " +
+            "FROM PostVariant v JOIN v.post p " +
+            "WHERE p.status <> :status AND v.socialAccountId IS NOT NULL AND v.scheduledAt >= :since")
+    List<ScheduledSlot> findScheduledSince(@Param("status") PostStatus status,
+                                           @Param("since") LocalDateTime since);
+
+    @Query("SELECT v.variantId AS variantId, v.socialAccountId AS socialAccountId, v.scheduledAt AS scheduledAt, " +
+            "v.contentSimhash AS contentSimhash, v.content AS content " +
+            "FROM PostVariant v JOIN v.post p " +
+            "WHERE p.status <> :status AND v.socialAccountId IS NOT NULL AND v.scheduledAt >= :since")
+    List<VariantFingerprint> findFingerprintsSince(@Param("status") PostStatus status,
+                                                   @Param("since") LocalDateTime since);
+
+    // Only fills gaps left by variants saved before fingerprints existed; never overwrites a fresh hash.
+    @Modifying
+    @Query("UPDATE PostVariant v SET v.contentSimhash = :simhash " +
+            "WHERE v.variantId = :variantId AND v.contentSimhash IS NULL")
+    int backfillContentSimhash(@Param("variantId") UUID variantId, @Param("simhash") long simhash);
 }
@@ -0,0 +1,12 @@
+package com.fierceadventurer.postservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface RevisionSummary {
+    int getRevisionNumber();
+    boolean isSnapshot();
+    int getStoredBytes();
+    UUID getEditedBy();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,10 @@
+package com.fierceadventurer.postservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ScheduledSlot {
+    UUID getVariantId();
+    UUID getSocialAccountId();
+    LocalDateTime getScheduledAt();
+}
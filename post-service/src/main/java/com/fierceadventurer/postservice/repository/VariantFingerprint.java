@@ -0,0 +1,12 @@
+package com.fierceadventurer.postservice.repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface VariantFingerprint {
+    UUID getVariantId();
+    UUID getSocialAccountId();
+    LocalDateTime getScheduledAt();
+    Long getContentSimhash();
+    String getContent();
+}
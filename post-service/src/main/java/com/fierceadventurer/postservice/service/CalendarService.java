@@ -0,0 +1,18 @@
+package com.fierceadventurer.postservice.service;
+
+import com.fierceadventurer.postservice.dto.CalendarDayDto;
+import com.fierceadventurer.postservice.entity.PostVariant;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface CalendarService {
+    List<CalendarDayDto> getCalendar(UUID userId, LocalDate from, LocalDate to, UUID accountId);
+    /**
+     * Queues the saved variants for the interval index once the transaction commits and returns,
+     * per variant, the other variants it conflicts with, including those in the same batch.
+     */
+    List<List<UUID>> trackVariants(List<PostVariant> variants);
+    void untrackVariant(UUID variantId);
+}
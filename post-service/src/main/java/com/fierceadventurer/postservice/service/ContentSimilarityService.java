@@ -0,0 +1,20 @@
+package com.fierceadventurer.postservice.service;
+
+import com.fierceadventurer.postservice.entity.PostVariant;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ContentSimilarityService {
+    /** Sets the variant's SimHash from its current content; call before saving. */
+    void fingerprint(PostVariant variant);
+    /**
+     * Per variant, a warning for each near-duplicate scheduled on the same account within the
+     * window, whether already indexed or elsewhere in the same batch.
+     */
+    List<List<String>> checkNearDuplicates(List<PostVariant> variants);
+    /** Indexes the saved variant's fingerprint once the transaction commits. */
+    void track(PostVariant variant);
+    void untrack(UUID variantId);
+    boolean isBlocking();
+}
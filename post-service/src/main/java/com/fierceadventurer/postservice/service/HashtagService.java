@@ -0,0 +1,18 @@
+package com.fierceadventurer.postservice.service;
+
+import com.fierceadventurer.postservice.dto.TrendingHashtagDto;
+import com.fierceadventurer.postservice.entity.Hashtag;
+import com.fierceadventurer.postservice.enums.Platform;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface HashtagService {
+    /** Returns the dictionary rows for the given raw tags, keyed by normalised name, creating missing ones. */
+    Map<String, Hashtag> intern(Collection<String> rawTags);
+    List<Hashtag> resolve(List<String> rawTags, Map<String, Hashtag> interned);
+    void recordUsage(UUID userId, Platform platform, Collection<Hashtag> added);
+    List<TrendingHashtagDto> getTrending(UUID userId, Platform platform, int limit);
+}
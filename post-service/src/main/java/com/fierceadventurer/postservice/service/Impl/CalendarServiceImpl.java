@@ -0,0 +1,172 @@
+package com.fierceadventurer.postservice.service.Impl;
+
+import com.fierceadventurer.postservice.cache.AccountOwnershipCache;
+import com.fierceadventurer.postservice.cache.ScheduleIntervalIndex;
+import com.fierceadventurer.postservice.client.SocialAccountClient;
+import com.fierceadventurer.postservice.dto.AccountOwnershipDto;
+import com.fierceadventurer.postservice.dto.AccountOwnershipRequestDto;
+import com.fierceadventurer.postservice.dto.CalendarDayDto;
+import com.fierceadventurer.postservice.entity.PostVariant;
+import com.fierceadventurer.postservice.enums.Platform;
+import com.fierceadventurer.postservice.enums.PostStatus;
+import com.fierceadventurer.postservice.events.ScheduleSlotChangedEvent;
+import com.fierceadventurer.postservice.repository.CalendarDayCount;
+import com.fierceadventurer.postservice.repository.PostVariantRepository;
+import com.fierceadventurer.postservice.repository.ScheduledSlot;
+import com.fierceadventurer.postservice.service.CalendarService;
+import com.fierceadventurer.postservice.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class CalendarServiceImpl implements CalendarService {
+
+    private final PostVariantRepository postVariantRepository;
+    private final ScheduleIntervalIndex scheduleIntervalIndex;
+    private final OutboxService outboxService;
+    private final AccountOwnershipCache accountOwnershipCache;
+    private final SocialAccountClient socialAccountClient;
+
+    @Value("${scheduling.calendar.max-days:92}")
+    private int maxDays;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CalendarDayDto> getCalendar(UUID userId, LocalDate from, LocalDate to, UUID accountId) {
+        if (to.isBefore(from) || ChronoUnit.DAYS.between(from, to) >= maxDays) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Calendar range must be between 1 and " + maxDays + " days");
+        }
+        if (accountId != null) {
+            verifyAccountOwnership(userId, accountId);
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        List<CalendarDayCount> counts = accountId == null
+                ? postVariantRepository.countByDay(userId, PostStatus.DELETED, start, end)
+                : postVariantRepository.countByDayForAccount(userId, PostStatus.DELETED, accountId, start, end);
+
+        Map<LocalDate, CalendarDayDto> days = new TreeMap<>();
+        for (CalendarDayCount count : counts) {
+            CalendarDayDto day = days.computeIfAbsent(count.getDay(),
+                    date -> new CalendarDayDto(date, 0, new EnumMap<>(Platform.class), new ArrayList<>()));
+            day.setScheduledCount(day.getScheduledCount() + count.getVariants());
+            day.getCountsByPlatform().put(count.getPlatform(), count.getVariants());
+        }
+
+        List<UUID> accountIds = accountId != null
+                ? List.of(accountId)
+                : postVariantRepository.findScheduledAccountIds(userId, PostStatus.DELETED, start, end);
+        for (UUID id : accountIds) {
+            for (ScheduleIntervalIndex.Slot slot : scheduleIntervalIndex.conflictingSlots(id, start, end)) {
+                CalendarDayDto day = days.get(slot.scheduledAt().toLocalDate());
+                if (day != null) {
+                    day.getConflictingVariantIds().add(slot.variantId());
+                }
+            }
+        }
+        return new ArrayList<>(days.values());
+    }
+
+    @Override
+    public List<List<UUID>> trackVariants(List<PostVariant> variants) {
+        Duration minimumGap = scheduleIntervalIndex.getMinimumGap();
+        List<List<UUID>> conflicts = new ArrayList<>(variants.size());
+        for (PostVariant variant : variants) {
+            UUID accountId = variant.getSocialAccountId();
+            LocalDateTime scheduledAt = variant.getScheduledAt();
+            List<UUID> found = new ArrayList<>();
+            if (accountId != null && scheduledAt != null) {
+                found.addAll(scheduleIntervalIndex.conflictsWith(accountId, scheduledAt, variant.getVariantId()));
+                // The batch is only indexed after commit, so its variants are compared directly.
+                for (PostVariant other : variants) {
+                    if (other != variant && accountId.equals(other.getSocialAccountId())
+                            && other.getScheduledAt() != null
+                            && Duration.between(other.getScheduledAt(), scheduledAt).abs().compareTo(minimumGap) < 0
+                            && !found.contains(other.getVariantId())) {
+                        found.add(other.getVariantId());
+                    }
+                }
+                if (!found.isEmpty()) {
+                    log.warn("Variant {} on account {} at {} is within {} of variants {}", variant.getVariantId(),
+                            accountId, scheduledAt, minimumGap, found);
+                }
+            }
+            conflicts.add(found);
+            publishSlot(variant.getVariantId(), accountId, scheduledAt);
+        }
+        return conflicts;
+    }
+
+    @Override
+    public void untrackVariant(UUID variantId) {
+        publishSlot(variantId, null, null);
+    }
+
+    private void publishSlot(UUID variantId, UUID accountId, LocalDateTime scheduledAt) {
+        outboxService.enqueue(ScheduleIntervalIndex.CHANGES_TOPIC, variantId.toString(),
+                new ScheduleSlotChangedEvent(variantId, accountId, scheduledAt));
+        TransactionCallbacks.afterCommit(() -> scheduleIntervalIndex.put(variantId, accountId, scheduledAt));
+    }
+
+    // Conflict markers name other variants on the account, so the filter must be the caller's own account.
+    private void verifyAccountOwnership(UUID userId, UUID accountId) {
+        if (accountOwnershipCache.isOwner(userId, accountId)) {
+            return;
+        }
+        List<AccountOwnershipDto> ownership;
+        try {
+            ownership = socialAccountClient.getAccountOwnership(new AccountOwnershipRequestDto(List.of(accountId)));
+        }
+        catch (Exception e) {
+            log.error("Failed to validate account ownership. Reason: ", e);
+            throw new AccessDeniedException("Could not verify ownership of social account: " + accountId);
+        }
+        boolean owned = ownership.stream()
+                .anyMatch(account -> accountId.equals(account.getAccountId()) && account.isOwned());
+        if (!owned) {
+            log.warn("Access Denied: User {} requested the calendar of social account {}", userId, accountId);
+            throw new AccessDeniedException("User does not own social account: " + accountId);
+        }
+    }
+
+    // The index is memory only, so it is reloaded with everything not yet in the past.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuildIndex() {
+        scheduleIntervalIndex.clear();
+        List<ScheduledSlot> slots = postVariantRepository.findScheduledSince(
+                PostStatus.DELETED, LocalDateTime.now().minus(scheduleIntervalIndex.getMinimumGap()));
+        slots.forEach(slot -> scheduleIntervalIndex.put(slot.getVariantId(), slot.getSocialAccountId(), slot.getScheduledAt()));
+        log.info("Loaded {} scheduled variants into the schedule interval index", slots.size());
+    }
+
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void pruneElapsedSlots() {
+        scheduleIntervalIndex.pruneBefore(LocalDateTime.now().minus(scheduleIntervalIndex.getMinimumGap()));
+    }
+}
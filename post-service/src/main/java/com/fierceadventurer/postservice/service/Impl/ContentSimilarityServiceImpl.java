@@ -0,0 +1,141 @@
+package com.fierceadventurer.postservice.service.Impl;
+
+import com.fierceadventurer.postservice.cache.NearDuplicateIndex;
+import com.fierceadventurer.postservice.cache.SimHash;
+import com.fierceadventurer.postservice.entity.PostVariant;
+import com.fierceadventurer.postservice.enums.PostStatus;
+import com.fierceadventurer.postservice.events.VariantFingerprintChangedEvent;
+import com.fierceadventurer.postservice.repository.PostVariantRepository;
+import com.fierceadventurer.postservice.repository.VariantFingerprint;
+import com.fierceadventurer.postservice.service.ContentSimilarityService;
+import com.fierceadventurer.postservice.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ContentSimilarityServiceImpl implements ContentSimilarityService {
+
+    private final NearDuplicateIndex nearDuplicateIndex;
+    private final PostVariantRepository postVariantRepository;
+    private final OutboxService outboxService;
+
+    @Value("${near-duplicates.block:false}")
+    private boolean block;
+
+    @Override
+    public void fingerprint(PostVariant variant) {
+        variant.setContentSimhash(SimHash.fingerprint(variant.getContent()));
+    }
+
+    @Override
+    public List<List<String>> checkNearDuplicates(List<PostVariant> variants) {
+        List<List<String>> warnings = new ArrayList<>(variants.size());
+        for (PostVariant variant : variants) {
+            Long fingerprint = variant.getContentSimhash();
+            if (fingerprint == null || variant.getSocialAccountId() == null || variant.getScheduledAt() == null) {
+                warnings.add(List.of());
+                continue;
+            }
+            List<NearDuplicateIndex.Entry> matches = new ArrayList<>(nearDuplicateIndex.findNearDuplicates(
+                    variant.getSocialAccountId(), fingerprint, variant.getScheduledAt(), variant.getVariantId()));
+            // The batch is only indexed after commit, so its variants are compared directly.
+            for (PostVariant other : variants) {
+                NearDuplicateIndex.Entry entry = toEntry(other);
+                if (other != variant && entry != null
+                        && variant.getSocialAccountId().equals(entry.accountId())
+                        && matches.stream().noneMatch(match -> match.variantId().equals(entry.variantId()))
+                        && nearDuplicateIndex.isNearDuplicate(entry, fingerprint, variant.getScheduledAt())) {
+                    matches.add(entry);
+                }
+            }
+            warnings.add(matches.stream()
+                    .map(match -> "Content is nearly identical to variant " + match.variantId()
+                            + " scheduled at " + match.scheduledAt() + " on the same account")
+                    .toList());
+        }
+        return warnings;
+    }
+
+    @Override
+    public void track(PostVariant variant) {
+        publish(variant.getVariantId(), toEntry(variant));
+    }
+
+    @Override
+    public void untrack(UUID variantId) {
+        publish(variantId, null);
+    }
+
+    private void publish(UUID variantId, NearDuplicateIndex.Entry entry) {
+        VariantFingerprintChangedEvent event = entry == null
+                ? new VariantFingerprintChangedEvent(variantId, null, null, null)
+                : new VariantFingerprintChangedEvent(variantId, entry.accountId(), entry.fingerprint(), entry.scheduledAt());
+        outboxService.enqueue(NearDuplicateIndex.CHANGES_TOPIC, variantId.toString(), event);
+        TransactionCallbacks.afterCommit(() -> {
+            if (entry == null) {
+                nearDuplicateIndex.remove(variantId);
+            } else {
+                nearDuplicateIndex.put(entry);
+            }
+        });
+    }
+
+    private static NearDuplicateIndex.Entry toEntry(PostVariant variant) {
+        if (variant.getContentSimhash() == null || variant.getSocialAccountId() == null
+                || variant.getScheduledAt() == null) {
+            return null;
+        }
+        return new NearDuplicateIndex.Entry(variant.getVariantId(), variant.getSocialAccountId(),
+                variant.getContentSimhash(), variant.getScheduledAt());
+    }
+
+    @Override
+    public boolean isBlocking() {
+        return block;
+    }
+
+    // Seeds from the stored fingerprints; variants saved before they existed are hashed once and written back.
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIndex() {
+        nearDuplicateIndex.clear();
+        List<VariantFingerprint> rows = postVariantRepository.findFingerprintsSince(
+                PostStatus.DELETED, LocalDateTime.now().minus(nearDuplicateIndex.getWindow()));
+        int indexed = 0;
+        int backfilled = 0;
+        for (VariantFingerprint row : rows) {
+            Long fingerprint = row.getContentSimhash();
+            if (fingerprint == null) {
+                fingerprint = SimHash.fingerprint(row.getContent());
+                if (fingerprint != null) {
+                    backfilled += postVariantRepository.backfillContentSimhash(row.getVariantId(), fingerprint);
+                }
+            }
+            if (fingerprint != null) {
+                nearDuplicateIndex.put(new NearDuplicateIndex.Entry(row.getVariantId(), row.getSocialAccountId(),
+                        fingerprint, row.getScheduledAt()));
+                indexed++;
+            }
+        }
+        log.info("Loaded {} variant fingerprints into the near-duplicate index ({} backfilled)", indexed, backfilled);
+    }
+
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public void pruneElapsedFingerprints() {
+        nearDuplicateIndex.pruneBefore(LocalDateTime.now().minus(nearDuplicateIndex.getWindow()));
+    }
+}
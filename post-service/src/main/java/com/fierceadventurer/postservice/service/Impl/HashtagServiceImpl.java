@@ -0,0 +1,119 @@
+package com.fierceadventurer.postservice.service.Impl;
+
+import com.fierceadventurer.postservice.cache.HashtagTrendTracker;
+import com.fierceadventurer.postservice.dto.TrendingHashtagDto;
+import com.fierceadventurer.postservice.entity.Hashtag;
+import com.fierceadventurer.postservice.enums.Platform;
+import com.fierceadventurer.postservice.events.HashtagUsageRecordedEvent;
+import com.fierceadventurer.postservice.repository.HashtagRepository;
+import com.fierceadventurer.postservice.repository.HashtagUsage;
+import com.fierceadventurer.postservice.service.HashtagService;
+import com.fierceadventurer.postservice.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class HashtagServiceImpl implements HashtagService {
+
+    private final HashtagRepository hashtagRepository;
+    private final HashtagTrendTracker hashtagTrendTracker;
+    private final OutboxService outboxService;
+
+    @Value("${hashtags.trending.window:30d}")
+    private Duration trendingWindow;
+
+    @Value("${hashtags.trending.max-limit:50}")
+    private int maxLimit;
+
+    @Override
+    @Transactional
+    public Map<String, Hashtag> intern(Collection<String> rawTags) {
+        if (rawTags == null || rawTags.isEmpty()) {
+            return Map.of();
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String raw : rawTags) {
+            String name = Hashtag.normalize(raw);
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Hashtag> byName = new HashMap<>();
+        hashtagRepository.findAllByNameIn(names).forEach(tag -> byName.put(tag.getName(), tag));
+        if (byName.size() < names.size()) {
+            for (String name : names) {
+                if (!byName.containsKey(name)) {
+                    hashtagRepository.insertIfAbsent(UUID.randomUUID(), name);
+                }
+            }
+            byName.clear();
+            hashtagRepository.findAllByNameIn(names).forEach(tag -> byName.put(tag.getName(), tag));
+        }
+        return byName;
+    }
+
+    @Override
+    public List<Hashtag> resolve(List<String> rawTags, Map<String, Hashtag> interned) {
+        List<Hashtag> tags = new ArrayList<>();
+        if (rawTags == null) {
+            return tags;
+        }
+        for (String raw : rawTags) {
+            Hashtag tag = interned.get(Hashtag.normalize(raw));
+            if (tag != null && !tags.contains(tag)) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+
+    @Override
+    public void recordUsage(UUID userId, Platform platform, Collection<Hashtag> added) {
+        if (added.isEmpty()) {
+            return;
+        }
+        outboxService.enqueue(HashtagTrendTracker.CHANGES_TOPIC, userId.toString(),
+                new HashtagUsageRecordedEvent(userId, platform, added.stream().map(Hashtag::getName).toList()));
+    }
+
+    @Override
+    public List<TrendingHashtagDto> getTrending(UUID userId, Platform platform, int limit) {
+        return hashtagTrendTracker.trending(userId, platform, Math.max(1, Math.min(limit, maxLimit)));
+    }
+
+    /**
+     * Replays usage inside the trending window into the sketches on start and every hour after,
+     * since they live only in memory and cannot let old usage age out on their own.
+     */
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    @Transactional(readOnly = true)
+    public void rebuildTrending() {
+        hashtagTrendTracker.rebuild(recorder -> {
+            List<HashtagUsage> usage = hashtagRepository.countUsageSince(LocalDateTime.now().minus(trendingWindow));
+            usage.forEach(row -> recorder.record(row.getUserId(), row.getPlatform(), row.getName(), row.getUses()));
+            log.info("Rebuilt trending hashtags from {} usage rows", usage.size());
+        });
+    }
+}
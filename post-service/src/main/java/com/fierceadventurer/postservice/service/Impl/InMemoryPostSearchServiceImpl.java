@@ -0,0 +1,189 @@
+package com.fierceadventurer.postservice.service.Impl;
+
+import com.fierceadventurer.postservice.dto.PostSearchHitDto;
+import com.fierceadventurer.postservice.dto.PostSearchResponseDto;
+import com.fierceadventurer.postservice.entity.Post;
+import com.fierceadventurer.postservice.entity.PostVariant;
+import com.fierceadventurer.postservice.enums.PostStatus;
+import com.fierceadventurer.postservice.service.PostSearchService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Inverted index kept in process memory, for running without Postgres (tests, local runs).
+ * It only knows about posts indexed since startup. Term weights mirror the Postgres
+ * setweight classes: title and hashtags 1.0, body 0.4, variant copy 0.2.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "posts.search.backend", havingValue = "memory")
+public class InMemoryPostSearchServiceImpl implements PostSearchService {
+
+    private static final Pattern TOKEN_SPLIT = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int SNIPPET_WORDS_BEFORE = 5;
+    private static final int SNIPPET_WORDS_AFTER = 15;
+
+    private final Map<UUID, IndexedPost> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<UUID>> postings = new ConcurrentHashMap<>();
+
+    @Value("${posts.listing.max-page-size:100}")
+    private int maxPageSize = 100;
+
+    private record IndexedPost(UUID userId, String title, String content, Map<String, Float> termWeights) {}
+
+    private record ScoredPost(UUID id, IndexedPost post, float score) {}
+
+    @Override
+    public synchronized void index(Post post) {
+        if (post.getStatus() == PostStatus.DELETED) {
+            remove(post.getId());
+            return;
+        }
+        Map<String, Float> weights = new HashMap<>();
+        addTerms(weights, post.getTitle(), 1.0f);
+        addTerms(weights, post.getContent(), 0.4f);
+        if (post.getVariants() != null) {
+            for (PostVariant variant : post.getVariants()) {
+                addTerms(weights, variant.getContent(), 0.2f);
+                variant.getHashtags().forEach(tag -> addTerms(weights, tag, 1.0f));
+            }
+        }
+
+        removePostings(post.getId());
+        documents.put(post.getId(), new IndexedPost(post.getUserId(), post.getTitle(), post.getContent(), weights));
+        weights.keySet().forEach(term ->
+                postings.computeIfAbsent(term, key -> ConcurrentHashMap.newKeySet()).add(post.getId()));
+    }
+
+    @Override
+    public synchronized void indexAll(Collection<Post> posts) {
+        posts.forEach(this::index);
+    }
+
+    @Override
+    public synchronized void remove(UUID postId) {
+        removePostings(postId);
+        documents.remove(postId);
+    }
+
+    @Override
+    public PostSearchResponseDto search(UUID userId, String query, String cursor, int size) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new PostSearchResponseDto(List.of(), null);
+        }
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        PostSearchCursor after = (cursor == null || cursor.isBlank()) ? null : PostSearchCursor.decode(cursor);
+
+        // Every term must match, so start from the rarest posting list and narrow down.
+        List<Set<UUID>> lists = new ArrayList<>();
+        for (String term : terms) {
+            Set<UUID> list = postings.get(term);
+            if (list == null) {
+                return new PostSearchResponseDto(List.of(), null);
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<ScoredPost> matches = new ArrayList<>();
+        for (UUID id : lists.get(0)) {
+            IndexedPost post = documents.get(id);
+            if (post == null || !post.userId().equals(userId)
+                    || !lists.stream().allMatch(list -> list.contains(id))) {
+                continue;
+            }
+            float score = 0f;
+            for (String term : terms) {
+                score += post.termWeights().getOrDefault(term, 0f);
+            }
+            if (after == null || score < after.rank() || (score == after.rank() && id.compareTo(after.id()) < 0)) {
+                matches.add(new ScoredPost(id, post, score));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(ScoredPost::score).reversed()
+                .thenComparing(ScoredPost::id, Comparator.reverseOrder()));
+
+        boolean hasMore = matches.size() > pageSize;
+        List<ScoredPost> page = hasMore ? matches.subList(0, pageSize) : matches;
+        String nextCursor = null;
+        if (hasMore) {
+            ScoredPost last = page.get(page.size() - 1);
+            nextCursor = new PostSearchCursor(last.score(), last.id()).encode();
+        }
+        return new PostSearchResponseDto(page.stream()
+                .map(match -> new PostSearchHitDto(match.id(), match.post().title(),
+                        snippet(match.post().content(), Set.copyOf(terms)), match.score()))
+                .toList(), nextCursor);
+    }
+
+    private void removePostings(UUID postId) {
+        IndexedPost previous = documents.get(postId);
+        if (previous == null) {
+            return;
+        }
+        previous.termWeights().keySet().forEach(term -> postings.computeIfPresent(term, (key, ids) -> {
+            ids.remove(postId);
+            return ids.isEmpty() ? null : ids;
+        }));
+    }
+
+    private static void addTerms(Map<String, Float> weights, String text, float weight) {
+        tokenize(text).forEach(term -> weights.merge(term, weight, Float::sum));
+    }
+
+    private static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String token : TOKEN_SPLIT.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private static String snippet(String content, Set<String> terms) {
+        if (content == null || content.isBlank()) {
+            return "";
+        }
+        String[] words = content.split("\\s+");
+        int first = -1;
+        for (int i = 0; i < words.length && first < 0; i++) {
+            if (matchesAny(words[i], terms)) {
+                first = i;
+            }
+        }
+        int from = Math.max(0, first - SNIPPET_WORDS_BEFORE);
+        int to = Math.min(words.length, Math.max(first, 0) + SNIPPET_WORDS_AFTER);
+
+        StringBuilder snippet = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            if (!snippet.isEmpty()) {
+                snippet.append(' ');
+            }
+            snippet.append(matchesAny(words[i], terms) ? "<mark>" + words[i] + "</mark>" : words[i]);
+        }
+        return snippet.toString();
+    }
+
+    private static boolean matchesAny(String word, Set<String> terms) {
+        return tokenize(word).stream().anyMatch(terms::contains);
+    }
+}
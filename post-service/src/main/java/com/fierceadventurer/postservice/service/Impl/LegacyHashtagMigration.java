@@ -0,0 +1,86 @@
+package com.fierceadventurer.postservice.service.Impl;
+
+import com.fierceadventurer.postservice.repository.HashtagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves tags from the old post_variant_hashtags element collection into the hashtag
+ * dictionary. It runs while the context starts, before the web server and the listeners
+ * accept any writes, and again on every start for as long as the legacy table exists, so
+ * variants written by replicas still on the previous release during a rolling deploy are
+ * picked up by the next start.
+ * <p>
+ * The legacy table stays in place for those replicas. Only its foreign key to post_variants
+ * is dropped, since it would otherwise block deleting migrated variants. Dropping the table
+ * itself is left to a later release through {@code hashtags.legacy-migration.drop-table},
+ * and even then only once every legacy row is accounted for.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LegacyHashtagMigration implements InitializingBean {
+
+    private final HashtagRepository hashtagRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${hashtags.legacy-migration.drop-table:false}")
+    private boolean dropTable;
+
+    @Override
+    public void afterPropertiesSet() {
+        transactionTemplate.executeWithoutResult(status -> migrate());
+    }
+
+    private void migrate() {
+        // Replicas starting together queue here, so the copy never runs twice at once.
+        jdbcTemplate.queryForObject("SELECT pg_advisory_xact_lock(hashtext('post_variant_hashtags'))", Object.class);
+        Boolean legacyTable = jdbcTemplate.queryForObject(
+                "SELECT to_regclass('post_variant_hashtags') IS NOT NULL", Boolean.class);
+        if (!Boolean.TRUE.equals(legacyTable)) {
+            return;
+        }
+
+        long blank = hashtagRepository.countBlankLegacyHashtags();
+        if (blank > 0) {
+            log.warn("Skipping {} legacy hashtag rows that are empty once normalised", blank);
+        }
+
+        long expected = hashtagRepository.countUnlinkedLegacyHashtags();
+        hashtagRepository.internLegacyHashtags();
+        int linked = hashtagRepository.linkLegacyHashtags();
+        long unlinked = hashtagRepository.countUnlinkedLegacyHashtags();
+        if (linked != expected || unlinked > 0) {
+            log.error("Legacy hashtag migration linked {} of {} rows and left {} unlinked; keeping the legacy table",
+                    linked, expected, unlinked);
+            return;
+        }
+        if (linked > 0) {
+            log.info("Migrated {} legacy hashtag rows into the hashtag dictionary", linked);
+        }
+
+        if (dropTable) {
+            jdbcTemplate.execute("DROP TABLE post_variant_hashtags");
+            log.info("Dropped the legacy post_variant_hashtags table");
+            return;
+        }
+        jdbcTemplate.execute("""
+                DO $$
+                DECLARE constraint_name text;
+                BEGIN
+                    FOR constraint_name IN
+                        SELECT conname FROM pg_constraint
+                        WHERE conrelid = 'post_variant_hashtags'::regclass AND contype = 'f'
+                    LOOP
+                        EXECUTE format('ALTER TABLE post_variant_hashtags DROP CONSTRAINT %I', constraint_name);
+                    END LOOP;
+                END $$
+                """);
+    }
+}
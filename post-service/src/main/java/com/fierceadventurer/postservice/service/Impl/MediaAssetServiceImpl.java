@@ -1,5 +1,6 @@
 package com.fierceadventurer.postservice.service.Impl;
 
+import com.fierceadventurer.postservice.cache.PostViewCache;
 import com.fierceadventurer.postservice.dto.MediaAssetDto;
 import com.fierceadventurer.postservice.entity.MediaAsset;
 import com.fierceadventurer.postservice.entity.Post;
@@ -22,6 +23,7 @@ public class MediaAssetServiceImpl implements MediaAssetService {
 
     private final PostRepository postRepository;
     private final MediaAssetRepository mediaAssetRepository;
+    private final PostViewCache postViewCache;
     private final MediaAssetMapper mediaAssetMapper = MediaAssetMapper.Instance;
 
     @Override
@@ -35,6 +37,7 @@ public class MediaAssetServiceImpl implements MediaAssetService {
         mediaAsset.setPost(post);
 
         MediaAsset savedMediaAsset = mediaAssetRepository.save(mediaAsset);
+        postViewCache.invalidate(postId);
         return  mediaAssetMapper.toDto(savedMediaAsset);
     }
 
@@ -63,10 +66,11 @@ public class MediaAssetServiceImpl implements MediaAssetService {
     @Override
     @Transactional
     public void deleteMediaAssetById(UUID postId, UUID assetId) {
-        if(!mediaAssetRepository.existsById(assetId)){
-            throw new ResourceNotFoundException("Cannot find media asset with id: " + assetId);
-        }
-        mediaAssetRepository.deleteById(assetId);
+        MediaAsset mediaAsset = mediaAssetRepository.findById(assetId)
+                .orElseThrow(()-> new ResourceNotFoundException("Cannot find media asset with id: " + assetId));
+        mediaAssetRepository.delete(mediaAsset);
+        // Evict the post the asset actually hangs off, which may differ from the path id.
+        postViewCache.invalidate(mediaAsset.getPost() != null ? mediaAsset.getPost().getId() : postId);
     }
 
     @Override
@@ -77,5 +81,6 @@ public class MediaAssetServiceImpl implements MediaAssetService {
                         ()-> new ResourceNotFoundException("Cannot find media asset with id: " + postId)
                 );
         mediaAssetRepository.deleteAll(post.getMediaAssets());
+        postViewCache.invalidate(postId);
     }
 }
@@ -1,5 +1,7 @@
 package com.fierceadventurer.postservice.service.Impl;
 
+import com.fierceadventurer.postservice.cache.PostViewCache;
+import com.fierceadventurer.postservice.dto.PostPageResponseDto;
 import com.fierceadventurer.postservice.dto.PostRequestDto;
 import com.fierceadventurer.postservice.dto.PostResponseDto;
 import com.fierceadventurer.postservice.entity.Post;
@@ -8,15 +10,27 @@ import com.fierceadventurer.postservice.exception.ResourceNotFoundException;
 import com.fierceadventurer.postservice.mapper.PostRequestMapper;
 import com.fierceadventurer.postservice.mapper.PostResponseMapper;
 import com.fierceadventurer.postservice.repository.PostRepository;
+import com.fierceadventurer.postservice.service.CalendarService;
+import com.fierceadventurer.postservice.service.ContentSimilarityService;
+import com.fierceadventurer.postservice.service.PostSearchService;
 import com.fierceadventurer.postservice.service.PostService;
+import com.fierceadventurer.postservice.service.RevisionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
 
 
@@ -28,6 +42,14 @@ public class PostServiceImpl implements PostService {
     private final PostRepository postRepository;
     private final PostRequestMapper postRequestMapper;
     private final PostResponseMapper postResponseMapper;
+    private final PostSearchService postSearchService;
+    private final PostViewCache postViewCache;
+    private final CalendarService calendarService;
+    private final ContentSimilarityService contentSimilarityService;
+    private final RevisionService revisionService;
+
+    @Value("${posts.listing.max-page-size:100}")
+    private int maxPageSize;
 
     @Override
     @Transactional
@@ -49,19 +71,28 @@ public class PostServiceImpl implements PostService {
             post.getVariants().forEach(variant -> variant.setPost(post));
         }
         Post savedPost = postRepository.save(post);
+        postSearchService.index(savedPost);
+        revisionService.recordPostRevision(savedPost.getId(), null, null,
+                savedPost.getTitle(), savedPost.getContent(), userId);
         log.debug("Created post {}", post);
         return postResponseMapper.toDto(savedPost);
     }
 
     @Override
     @Transactional
-    public PostResponseDto updatePostById(UUID postId, PostRequestDto postRequestDto) {
-        Post existingPost = postRepository.findById(postId).orElseThrow(
+    public PostResponseDto updatePostById(UUID postId, UUID userId, PostRequestDto postRequestDto) {
+        Post existingPost = postRepository.findByIdForUpdate(postId).orElseThrow(
                 () -> new ResourceNotFoundException("Post not found with id: " + postId ));
+        String previousTitle = existingPost.getTitle();
+        String previousContent = existingPost.getContent();
         postRequestMapper.updatePost(postRequestDto, existingPost);
         existingPost.setStatus(PostStatus.UPDATED);
 
         Post updatedPost = postRepository.save(existingPost);
+        postSearchService.index(updatedPost);
+        revisionService.recordPostRevision(postId, previousTitle, previousContent,
+                updatedPost.getTitle(), updatedPost.getContent(), userId);
+        postViewCache.invalidate(postId);
         log.info("Successfully updated post with ID: {}", postId);
         return postResponseMapper.toDto(updatedPost);
     }
@@ -69,12 +100,18 @@ public class PostServiceImpl implements PostService {
     @Override
     @Transactional(readOnly = true)
     public PostResponseDto getPostById(UUID postId) {
+        PostResponseDto cached = postViewCache.getPost(postId).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
         Post post = postRepository.findByIdAndStatusNot(postId , PostStatus.DELETED)
                 .orElseThrow(()-> new ResourceNotFoundException(
                         "Post not found with id " + postId
                 ));
         log.debug("Retrieved post by id {}", post);
-        return postResponseMapper.toDto(post);
+        PostResponseDto view = postResponseMapper.toDto(post);
+        postViewCache.putPost(postId, post.getUserId(), view);
+        return view;
     }
 
     @Override
@@ -86,6 +123,35 @@ public class PostServiceImpl implements PostService {
 
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PostPageResponseDto getPostsForUser(UUID userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        // One extra row tells us whether another page exists without a count query.
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<Post> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = postRepository.findFirstPageByUser(userId, PostStatus.DELETED, limit);
+        } else {
+            PageCursor after = decodeCursor(cursor);
+            posts = postRepository.findPageByUserAfter(userId, PostStatus.DELETED,
+                    after.lastEdited(), after.id(), limit);
+        }
+
+        boolean hasMore = posts.size() > pageSize;
+        List<Post> page = hasMore ? posts.subList(0, pageSize) : posts;
+
+        if (!page.isEmpty()) {
+            // The posts are already managed, so this only initialises their media collections.
+            postRepository.fetchMediaAssets(page.stream().map(Post::getId).toList());
+        }
+
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+        log.debug("Listed {} posts for user {} (more: {})", page.size(), userId, hasMore);
+        return new PostPageResponseDto(page.stream().map(postResponseMapper::toDto).toList(), nextCursor);
+    }
+
     @Override
     @Transactional
     public void deletePostById(UUID postId) {
@@ -94,7 +160,34 @@ public class PostServiceImpl implements PostService {
         );
         postTodelete.setStatus(PostStatus.DELETED);
         Post deletedPost = postRepository.save(postTodelete);
+        postSearchService.remove(postId);
+        postViewCache.invalidate(postId);
+        postTodelete.getVariants().forEach(variant -> {
+            calendarService.untrackVariant(variant.getVariantId());
+            contentSimilarityService.untrack(variant.getVariantId());
+        });
         log.debug("Marked post as deleted with id {}", postId);
 
     }
+
+    private record PageCursor(LocalDateTime lastEdited, UUID id) {}
+
+    private String encodeCursor(Post post) {
+        String raw = post.getLastEdited() + "|" + post.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private PageCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            return new PageCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid page cursor");
+        }
+    }
 }
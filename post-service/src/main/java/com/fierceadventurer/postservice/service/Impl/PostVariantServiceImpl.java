@@ -1,10 +1,17 @@
 package com.fierceadventurer.postservice.service.Impl;
 
+import com.fierceadventurer.postservice.cache.AccountOwnershipCache;
+import com.fierceadventurer.postservice.cache.PostViewCache;
 import com.fierceadventurer.postservice.client.AnalyticsClient;
 import com.fierceadventurer.postservice.client.SocialAccountClient;
+import com.fierceadventurer.postservice.dto.AccountOwnershipDto;
+import com.fierceadventurer.postservice.dto.AccountOwnershipRequestDto;
 import com.fierceadventurer.postservice.dto.CreatePostVariantRequestDto;
+import com.fierceadventurer.postservice.dto.NextBestTimeRequestDto;
+import com.fierceadventurer.postservice.dto.NextBestTimesResponseDto;
 import com.fierceadventurer.postservice.dto.PostVariantResponseDto;
 import com.fierceadventurer.postservice.dto.UpdatePostVariantRequestDto;
+import com.fierceadventurer.postservice.entity.Hashtag;
 import com.fierceadventurer.postservice.entity.MediaAsset;
 import com.fierceadventurer.postservice.entity.Post;
 import com.fierceadventurer.postservice.entity.PostVariant;
@@ -16,19 +23,39 @@ import com.fierceadventurer.postservice.mapper.PostVariantMapper;
 import com.fierceadventurer.postservice.repository.MediaAssetRepository;
 import com.fierceadventurer.postservice.repository.PostRepository;
 import com.fierceadventurer.postservice.repository.PostVariantRepository;
+import com.fierceadventurer.postservice.service.CalendarService;
+import com.fierceadventurer.postservice.service.ContentSimilarityService;
+import com.fierceadventurer.postservice.service.HashtagService;
+import com.fierceadventurer.postservice.service.OutboxService;
+import com.fierceadventurer.postservice.service.PostSearchService;
 import com.fierceadventurer.postservice.service.PostVariantService;
+import com.fierceadventurer.postservice.service.RevisionService;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static org.apache.kafka.common.requests.FetchMetadata.log;
@@ -37,72 +64,133 @@ import static org.apache.kafka.common.requests.FetchMetadata.log;
 @RequiredArgsConstructor
 @Slf4j
 public class PostVariantServiceImpl implements PostVariantService {
+    // Suspended or token-expired accounts cannot publish, so they are not worth scheduling into.
+    private static final Set<String> USABLE_ACCOUNT_STATUSES = Set.of("ACTIVE", "CONNECTED");
+
     private final PostVariantRepository postVariantRepository;
     private final PostRepository postRepository;
     private final PostVariantMapper postVariantMapper;
     private final MediaAssetRepository mediaAssetRepository;
-    private final KafkaTemplate<String, VariantReadyForSchedulingEvent> kafkaTemplate;
+    private final OutboxService outboxService;
     private final SocialAccountClient socialAccountClient;
     private final AnalyticsClient analyticsClient;
+    private final AccountOwnershipCache accountOwnershipCache;
+    private final ExecutorService remoteCallExecutor;
+    private final PostSearchService postSearchService;
+    private final PostViewCache postViewCache;
+    private final HashtagService hashtagService;
+    private final CalendarService calendarService;
+    private final ContentSimilarityService contentSimilarityService;
+    private final RevisionService revisionService;
+
+    @Value("${remote-calls.ownership-timeout-ms:2000}")
+    private long ownershipTimeoutMs;
+
+    @Value("${remote-calls.best-time-timeout-ms:1500}")
+    private long bestTimeTimeoutMs;
 
     @Override
     @Transactional
     public PostVariantResponseDto createNewVariant(UUID postId, UUID userId, CreatePostVariantRequestDto createDto) {
+        return createNewVariants(postId, userId, List.of(createDto)).get(0);
+    }
 
-        try{
-            socialAccountClient.validateAccountOwnerShip(createDto.getSocialAccountId(), userId);
-        }
-        catch(Exception e){
-            log.error("Failed to validate account ownership. Reason: ", e);
-            throw new AccessDeniedException("User does not own social account: " + createDto.getSocialAccountId());
+    @Override
+    @Transactional
+    public List<PostVariantResponseDto> createNewVariants(UUID postId, UUID userId,
+                                                          List<CreatePostVariantRequestDto> createDtos) {
+
+        List<UUID> accountIds = createDtos.stream()
+                .map(CreatePostVariantRequestDto::getSocialAccountId)
+                .distinct()
+                .toList();
+
+        // The remote lookups are independent of each other and of the post, so start them
+        // first and check the post on this thread while they are in flight.
+        CompletableFuture<?> ownershipCheck = CompletableFuture
+                .supplyAsync(() -> validateAccountsOwnership(userId, accountIds), remoteCallExecutor)
+                .orTimeout(ownershipTimeoutMs, TimeUnit.MILLISECONDS);
+
+        Map<UUID, Integer> slotsNeeded = new LinkedHashMap<>();
+        for(CreatePostVariantRequestDto createDto : createDtos) {
+            if(createDto.getScheduledAt() == null) {
+                slotsNeeded.merge(createDto.getSocialAccountId(), 1, Integer::sum);
+            }
         }
+        CompletableFuture<Map<UUID, Deque<LocalDateTime>>> bestTimeLookup = slotsNeeded.isEmpty()
+                ? CompletableFuture.completedFuture(Map.of())
+                : fetchNextBestTimes(slotsNeeded);
 
         Post post = findPostAndVerifyOwnership(postId , userId , "create variant for");
+        awaitOwnershipCheck(ownershipCheck, accountIds);
+        Map<UUID, Deque<LocalDateTime>> bestTimes = bestTimeLookup.join();
+
+        Map<String, Hashtag> interned = hashtagService.intern(createDtos.stream()
+                .filter(createDto -> createDto.getHashtags() != null)
+                .flatMap(createDto -> createDto.getHashtags().stream())
+                .toList());
+
+        List<PostVariant> variants = new ArrayList<>(createDtos.size());
+        List<MediaAsset> newMediaAssets = new ArrayList<>();
+        for(CreatePostVariantRequestDto createDto : createDtos) {
+            PostVariant variant = postVariantMapper.toEntity(createDto);
+            variant.setPost(post);
+            variant.setHashtagRefs(hashtagService.resolve(createDto.getHashtags(), interned));
+            contentSimilarityService.fingerprint(variant);
+
+            if(variant.getScheduledAt() == null) {
+                variant.setScheduledAt(nextBestTime(bestTimes, createDto.getSocialAccountId()));
+            }
 
-        PostVariant variant = postVariantMapper.toEntity(createDto);
-        variant.setPost(post);
-
-        if(variant.getScheduledAt() == null) {
-            log.info("No schedule time provided for variant. Fetching best time...");
-            try {
-                LocalDateTime bestTime = analyticsClient.getNextBestTime(createDto.getSocialAccountId())
-                        .getNextBestTime();
-                variant.setScheduledAt(bestTime);
-            } catch (Exception e) {
-                log.warn("Analytics Service unavailable. Defaulting to 1 hour from now.");
-                variant.setScheduledAt(LocalDateTime.now().plusHours(1));
+            if(createDto.getMediaUrls() != null
+                    && !createDto.getMediaUrls().isEmpty()) {
+                List<MediaAsset> mediaAssets = createDto.getMediaUrls().stream()
+                        .map(url -> {
+                            MediaAsset asset = new MediaAsset();
+                            asset.setPost(post);
+                            asset.setUserId(userId);
+                            asset.setStorageUrl(url);
+                            asset.setMediaType(determineMediaTypeFromUrl(url));
+                            asset.setSize(0L);
+                            return asset;
+                        }).collect(Collectors.toList());
+
+                newMediaAssets.addAll(mediaAssets);
+                variant.setMediaAssets(mediaAssets);
             }
+            variants.add(variant);
         }
 
-        if(createDto.getMediaUrls() != null
-                && !createDto.getMediaUrls().isEmpty()) {
-            List<MediaAsset> mediaAssets= createDto.getMediaUrls().stream()
-                .map(url -> {
-                    MediaAsset asset = new MediaAsset();
-                    asset.setPost(post);
-                    asset.setUserId(userId);
-                    asset.setStorageUrl(url);
-                    asset.setMediaType(determineMediaTypeFromUrl(url));
-                    asset.setSize(0L); 
-
-                    return mediaAssetRepository.save(asset);
-                }).collect(Collectors.toList());
+        mediaAssetRepository.saveAll(newMediaAssets);
+        List<PostVariant> savedVariants = postVariantRepository.saveAll(variants);
+        post.getVariants().addAll(savedVariants);
 
-
-            for(MediaAsset asset : mediaAssets) {
-                if(!asset.getPost().getUserId().equals(userId)) {
-                    log.warn("User {} attempted to use media asset{} which they do not own (Owner: {})", userId , asset.getAssetId() , asset.getUserId());
-                    throw new AccessDeniedException("User does not have permission to use social media asset: " + asset.getAssetId());
-                }
-            }
-            variant.setMediaAssets(mediaAssets);
+        // Checked after saving so the variants have ids; variants in the same request are compared too.
+        List<List<String>> warnings = contentSimilarityService.checkNearDuplicates(savedVariants);
+        if(contentSimilarityService.isBlocking() && warnings.stream().anyMatch(w -> !w.isEmpty())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, warnings.stream()
+                    .flatMap(List::stream).findFirst().orElse("Near-duplicate content"));
         }
 
-        PostVariant savedVariant = postVariantRepository.save(variant);
+        savedVariants.forEach(contentSimilarityService::track);
+        postSearchService.index(post);
+        postViewCache.invalidate(postId);
 
-        publishSchedulingEvent(savedVariant , createDto.getSocialAccountId());
+        List<List<UUID>> conflicts = calendarService.trackVariants(savedVariants);
+        for(int i = 0; i < savedVariants.size(); i++) {
+            PostVariant saved = savedVariants.get(i);
+            publishSchedulingEvent(saved, createDtos.get(i).getSocialAccountId());
+            hashtagService.recordUsage(userId, saved.getPlatform(), saved.getHashtagRefs());
+            revisionService.recordVariantRevision(saved.getVariantId(), null, saved.getContent(), userId);
+        }
 
-        return postVariantMapper.toDto(savedVariant);
+        List<PostVariantResponseDto> responses = new ArrayList<>(savedVariants.size());
+        for(int i = 0; i < savedVariants.size(); i++) {
+            PostVariantResponseDto response = postVariantMapper.toDto(savedVariants.get(i));
+            response.setWarnings(withConflictWarnings(warnings.get(i), conflicts.get(i)));
+            responses.add(response);
+        }
+        return responses;
     }
 
     private PostType determineMediaTypeFromUrl(String url) {
@@ -139,6 +227,10 @@ public class PostVariantServiceImpl implements PostVariantService {
     @Override
     @Transactional(readOnly = true)
     public PostVariantResponseDto getPostVariantById(UUID postId ,UUID userId,  UUID variantId) {
+        PostVariantResponseDto cached = postViewCache.getVariant(postId, userId, variantId).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
         Post post = findPostAndVerifyOwnership(postId , userId , "view");
 
         PostVariant variant = postVariantRepository.findById(variantId).orElseThrow(
@@ -149,7 +241,9 @@ public class PostVariantServiceImpl implements PostVariantService {
             throw new ResourceNotFoundException("Variant " + variantId + " does not belong to post " + postId);
         }
 
-        return postVariantMapper.toDto(variant);
+        PostVariantResponseDto view = postVariantMapper.toDto(variant);
+        postViewCache.putVariant(postId, post.getUserId(), view);
+        return view;
     }
 
     @Override
@@ -162,7 +256,7 @@ public class PostVariantServiceImpl implements PostVariantService {
         Post post = findPostAndVerifyOwnership(postId , userId , "update");
 
 
-        PostVariant existingVariant = postVariantRepository.findById(variantId).orElseThrow(
+        PostVariant existingVariant = postVariantRepository.findByIdForUpdate(variantId).orElseThrow(
                 ()-> new ResourceNotFoundException("Cannot find postVariant with id: " + variantId)
         );
 
@@ -170,26 +264,68 @@ public class PostVariantServiceImpl implements PostVariantService {
             throw new ResourceNotFoundException("Cannot update post variant " + variantId + " does not belong to post " + postId);
         }
 
+        String previousContent = existingVariant.getContent();
         postVariantMapper.updateFromDto(updateDto, existingVariant);
 
+        List<Hashtag> addedHashtags = List.of();
+        if(updateDto.getHashtags() != null){
+            List<Hashtag> hashtags = hashtagService.resolve(updateDto.getHashtags(),
+                    hashtagService.intern(updateDto.getHashtags()));
+            // Only tags new to this variant count towards trending; re-saving is not a new use.
+            addedHashtags = hashtags.stream()
+                    .filter(tag -> !existingVariant.getHashtagRefs().contains(tag))
+                    .toList();
+            existingVariant.setHashtagRefs(new ArrayList<>(hashtags));
+        }
+
         if(updateDto.getMediaAssetIds() != null){
             List<MediaAsset> mediaAssets= mediaAssetRepository.findAllById( updateDto.getMediaAssetIds());
             existingVariant.setMediaAssets(mediaAssets);
         }
 
+        contentSimilarityService.fingerprint(existingVariant);
+        List<String> warnings = contentSimilarityService.checkNearDuplicates(List.of(existingVariant)).get(0);
+        if(contentSimilarityService.isBlocking() && !warnings.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, warnings.get(0));
+        }
+
 
         PostVariant updateVariant = postVariantRepository.save(existingVariant);
-        return postVariantMapper.toDto(updateVariant);
+        postSearchService.index(post);
+        postViewCache.invalidate(postId);
+        hashtagService.recordUsage(userId, updateVariant.getPlatform(), addedHashtags);
+        List<UUID> conflicts = calendarService.trackVariants(List.of(updateVariant)).get(0);
+        contentSimilarityService.track(updateVariant);
+        revisionService.recordVariantRevision(variantId, previousContent, updateVariant.getContent(), userId);
+        PostVariantResponseDto response = postVariantMapper.toDto(updateVariant);
+        response.setWarnings(withConflictWarnings(warnings, conflicts));
+        return response;
+    }
+
+    private static List<String> withConflictWarnings(List<String> warnings, List<UUID> conflicts) {
+        if(conflicts.isEmpty()) {
+            return warnings;
+        }
+        List<String> combined = new ArrayList<>(warnings);
+        conflicts.forEach(conflict -> combined.add(
+                "Scheduled within the minimum gap of variant " + conflict + " on the same account"));
+        return combined;
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<PostVariantResponseDto> getAllPostVariants(UUID postId, UUID userId) {
+        List<PostVariantResponseDto> cached = postViewCache.getVariants(postId, userId).orElse(null);
+        if (cached != null) {
+            return cached;
+        }
         Post post = findPostAndVerifyOwnership(postId, userId, "view");
 
-        return post.getVariants().stream().
+        List<PostVariantResponseDto> views = post.getVariants().stream().
                 map(postVariantMapper::toDto)
                 .collect(Collectors.toList());
+        postViewCache.putVariants(postId, post.getUserId(), views);
+        return views;
 
     }
 
@@ -204,7 +340,114 @@ public class PostVariantServiceImpl implements PostVariantService {
         if(!variant.getPost().getId().equals(postId)) {
             throw new ResourceNotFoundException("Variant " + variantId + " does not belong to post " + postId);
         }
+        post.getVariants().remove(variant);
         postVariantRepository.deleteById(variantId);
+        calendarService.untrackVariant(variantId);
+        contentSimilarityService.untrack(variantId);
+        postSearchService.index(post);
+        postViewCache.invalidate(postId);
+    }
+
+    /**
+     * Batch calls for every account that needs slots, asking for as many distinct slots as
+     * that account has unscheduled variants, so variants for the same account are spread
+     * over the ranking instead of all landing on the best slot. Requests are split and
+     * clamped to analytics-service's batch limits, which would otherwise reject the call.
+     */
+    private CompletableFuture<Map<UUID, Deque<LocalDateTime>>> fetchNextBestTimes(Map<UUID, Integer> slotsNeeded) {
+        log.info("No schedule time provided for {} variant(s). Fetching best times...",
+                slotsNeeded.values().stream().mapToInt(Integer::intValue).sum());
+        List<NextBestTimeRequestDto> requests = slotsNeeded.entrySet().stream()
+                .map(entry -> new NextBestTimeRequestDto(entry.getKey(),
+                        Math.min(entry.getValue(), NextBestTimeRequestDto.MAX_COUNT)))
+                .toList();
+
+        List<CompletableFuture<Map<UUID, Deque<LocalDateTime>>>> batches = new ArrayList<>();
+        for(int from = 0; from < requests.size(); from += NextBestTimeRequestDto.MAX_ACCOUNTS_PER_BATCH) {
+            List<NextBestTimeRequestDto> batch = requests.subList(from,
+                    Math.min(from + NextBestTimeRequestDto.MAX_ACCOUNTS_PER_BATCH, requests.size()));
+            batches.add(CompletableFuture
+                    .supplyAsync(() -> {
+                        Map<UUID, Deque<LocalDateTime>> byAccount = new HashMap<>();
+                        for(NextBestTimesResponseDto response : analyticsClient.getNextBestTimes(batch)) {
+                            byAccount.put(response.getSocialAccountId(), new ArrayDeque<>(response.getNextBestTimes()));
+                        }
+                        return byAccount;
+                    }, remoteCallExecutor)
+                    .orTimeout(bestTimeTimeoutMs, TimeUnit.MILLISECONDS)
+                    .exceptionally(e -> {
+                        log.warn("Analytics Service unavailable. Defaulting to 1 hour from now.");
+                        return Map.of();
+                    }));
+        }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    Map<UUID, Deque<LocalDateTime>> byAccount = new HashMap<>();
+                    batches.forEach(batch -> byAccount.putAll(batch.join()));
+                    return byAccount;
+                });
+    }
+
+    private LocalDateTime nextBestTime(Map<UUID, Deque<LocalDateTime>> bestTimes, UUID socialAccountId) {
+        Deque<LocalDateTime> upcoming = bestTimes.get(socialAccountId);
+        LocalDateTime next = upcoming != null ? upcoming.poll() : null;
+        return next != null ? next : LocalDateTime.now().plusHours(1);
+    }
+
+    private void awaitOwnershipCheck(CompletableFuture<?> ownershipCheck, List<UUID> accountIds) {
+        try {
+            ownershipCheck.join();
+        }
+        catch (CompletionException e) {
+            if(e.getCause() instanceof AccessDeniedException accessDenied){
+                throw accessDenied;
+            }
+            log.error("Failed to validate account ownership. Reason: ", e.getCause());
+            throw new AccessDeniedException("Could not verify ownership of social accounts: " + accountIds);
+        }
+    }
+
+    /**
+     * Checks every account not already confirmed by the ownership cache with one batch call
+     * to social-account-service, returning the fetched metadata keyed by id. Throws if any
+     * account is missing or owned by someone else.
+     */
+    private Map<UUID, AccountOwnershipDto> validateAccountsOwnership(UUID userId, List<UUID> accountIds) {
+        List<UUID> uncachedIds = accountIds.stream()
+                .filter(accountId -> !accountOwnershipCache.isOwner(userId, accountId))
+                .distinct()
+                .toList();
+        if(uncachedIds.isEmpty()){
+            return Map.of();
+        }
+
+        long epoch = accountOwnershipCache.currentEpoch();
+        List<AccountOwnershipDto> ownership;
+        try{
+            ownership = socialAccountClient.getAccountOwnership(new AccountOwnershipRequestDto(uncachedIds));
+        }
+        catch(Exception e){
+            log.error("Failed to validate account ownership. Reason: ", e);
+            throw new AccessDeniedException("Could not verify ownership of social accounts: " + accountIds);
+        }
+
+        Map<UUID, AccountOwnershipDto> byAccountId = ownership.stream()
+                .collect(Collectors.toMap(AccountOwnershipDto::getAccountId, Function.identity(), (first, second) -> first));
+
+        for(UUID accountId : uncachedIds){
+            AccountOwnershipDto account = byAccountId.get(accountId);
+            if(account == null || !account.isOwned()){
+                log.warn("Access Denied: User {} does not own social account {}", userId, accountId);
+                throw new AccessDeniedException("User does not own social account: " + accountId);
+            }
+            if(!USABLE_ACCOUNT_STATUSES.contains(account.getStatus())){
+                log.warn("Access Denied: Social account {} is {}", accountId, account.getStatus());
+                throw new AccessDeniedException("Social account " + accountId + " is " + account.getStatus());
+            }
+            accountOwnershipCache.markOwner(userId, accountId, epoch);
+        }
+        return byAccountId;
     }
 
     private Post findPostAndVerifyOwnership(UUID postId, UUID userId, String action) {
@@ -236,8 +479,8 @@ public class PostVariantServiceImpl implements PostVariantService {
         List<String> urls = variant.getMediaAssets().stream().map(MediaAsset::getStorageUrl)
                 .collect(Collectors.toList());
         event.setMediaUrls(urls);
-        kafkaTemplate.send(topic, event);
-        log.info("Published {} event to topic '{}' for variant ID: {}",
+        outboxService.enqueue(topic, variant.getVariantId().toString(), event);
+        log.info("Queued {} event for topic '{}' for variant ID: {}",
                 isScheduled ? "SCHEDULED" : "IMMEDIATE", topic, variant.getVariantId());
 
 
@@ -0,0 +1,109 @@
+package com.fierceadventurer.postservice.service.Impl;
+
+import com.fierceadventurer.postservice.dto.PostSearchHitDto;
+import com.fierceadventurer.postservice.dto.PostSearchResponseDto;
+import com.fierceadventurer.postservice.entity.Post;
+import com.fierceadventurer.postservice.repository.PostRepository;
+import com.fierceadventurer.postservice.repository.PostSearchHit;
+import com.fierceadventurer.postservice.repository.PostSearchRepository;
+import com.fierceadventurer.postservice.service.PostSearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "posts.search.backend", havingValue = "postgres", matchIfMissing = true)
+public class PostgresPostSearchServiceImpl implements PostSearchService, InitializingBean {
+
+    private final PostSearchRepository postSearchRepository;
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${posts.listing.max-page-size:100}")
+    private int maxPageSize;
+
+    /**
+     * Hibernate's ddl-auto cannot express a tsvector column or a GIN index, so both are added
+     * here once the schema exists, and rows written before the column existed are backfilled.
+     * Runs while the context starts, before the web server and listeners take any traffic
+     * that reads or writes the column.
+     */
+    @Override
+    public void afterPropertiesSet() {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE posts ADD COLUMN IF NOT EXISTS search_vector tsvector");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_posts_search_vector ON posts USING GIN (search_vector)");
+            int backfilled = postSearchRepository.backfillSearchVectors();
+            if (backfilled > 0) {
+                log.info("Backfilled search vectors for {} posts", backfilled);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void index(Post post) {
+        // The vector is built from the rows themselves, so pending entity changes go out first.
+        postRepository.flush();
+        postSearchRepository.refreshSearchVector(post.getId());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void indexAll(Collection<Post> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        postRepository.flush();
+        postSearchRepository.refreshSearchVectors(posts.stream().map(Post::getId).toList());
+    }
+
+    @Override
+    public void remove(UUID postId) {
+        // Deleted posts stay in the table and are filtered out by status at query time.
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PostSearchResponseDto search(UUID userId, String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            return new PostSearchResponseDto(List.of(), null);
+        }
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+
+        List<PostSearchHit> hits;
+        if (cursor == null || cursor.isBlank()) {
+            hits = postSearchRepository.searchFirstPage(userId, query, pageSize + 1);
+        } else {
+            PostSearchCursor after = PostSearchCursor.decode(cursor);
+            hits = postSearchRepository.searchPageAfter(userId, query, after.rank(), after.id(), pageSize + 1);
+        }
+
+        boolean hasMore = hits.size() > pageSize;
+        List<PostSearchHit> page = hasMore ? hits.subList(0, pageSize) : hits;
+
+        String nextCursor = null;
+        if (hasMore) {
+            PostSearchHit last = page.get(page.size() - 1);
+            nextCursor = new PostSearchCursor(last.getRank(), last.getId()).encode();
+        }
+        log.debug("Search for user {} matched {} posts (more: {})", userId, page.size(), hasMore);
+        return new PostSearchResponseDto(page.stream()
+                .map(hit -> new PostSearchHitDto(hit.getId(), hit.getTitle(), hit.getSnippet(), hit.getRank()))
+                .toList(), nextCursor);
+    }
+}
@@ -0,0 +1,106 @@
+package com.fierceadventurer.postservice.service.Impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodes revisions as deflated text. A delta keeps the common prefix and suffix of the
+ * previous text and stores only the replaced middle, which is what an editor's save
+ * usually changes. Any edit is representable; scattered edits just carry a larger middle.
+ */
+final class RevisionCodec {
+
+    private RevisionCodec() {
+    }
+
+    static byte[] encodeSnapshot(String text) {
+        return deflate(out -> writeString(out, text));
+    }
+
+    static String decodeSnapshot(byte[] payload) {
+        return inflate(payload, RevisionCodec::readString);
+    }
+
+    static byte[] encodeDelta(String previous, String next) {
+        int prefix = 0;
+        int maxPrefix = Math.min(previous.length(), next.length());
+        while (prefix < maxPrefix && previous.charAt(prefix) == next.charAt(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix
+                && previous.charAt(previous.length() - 1 - suffix) == next.charAt(next.length() - 1 - suffix)) {
+            suffix++;
+        }
+        // Never split a surrogate pair, so the middle always round-trips through UTF-8.
+        if (prefix > 0 && Character.isHighSurrogate(next.charAt(prefix - 1))) {
+            prefix--;
+        }
+        if (suffix > 0 && Character.isLowSurrogate(next.charAt(next.length() - suffix))) {
+            suffix--;
+        }
+        int keepPrefix = prefix;
+        int keepSuffix = suffix;
+        String middle = next.substring(prefix, next.length() - suffix);
+        return deflate(out -> {
+            out.writeInt(keepPrefix);
+            out.writeInt(keepSuffix);
+            writeString(out, middle);
+        });
+    }
+
+    static String applyDelta(String previous, byte[] payload) {
+        return inflate(payload, in -> {
+            int prefix = in.readInt();
+            int suffix = in.readInt();
+            String middle = readString(in);
+            return previous.substring(0, prefix) + middle + previous.substring(previous.length() - suffix);
+        });
+    }
+
+    private interface Writer {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private interface Reader {
+        String read(DataInputStream in) throws IOException;
+    }
+
+    private static byte[] deflate(Writer writer) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+            writer.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static String inflate(byte[] payload, Reader reader) {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(payload)))) {
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(utf8.length);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] utf8 = new byte[in.readInt()];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,185 @@
+package com.fierceadventurer.postservice.service.Impl;
+
+import com.fierceadventurer.postservice.dto.RevisionDto;
+import com.fierceadventurer.postservice.dto.RevisionSummaryDto;
+import com.fierceadventurer.postservice.entity.ContentRevision;
+import com.fierceadventurer.postservice.entity.Post;
+import com.fierceadventurer.postservice.entity.PostVariant;
+import com.fierceadventurer.postservice.enums.PostStatus;
+import com.fierceadventurer.postservice.enums.RevisionSubject;
+import com.fierceadventurer.postservice.exception.ResourceNotFoundException;
+import com.fierceadventurer.postservice.repository.ContentRevisionRepository;
+import com.fierceadventurer.postservice.repository.PostRepository;
+import com.fierceadventurer.postservice.repository.PostVariantRepository;
+import com.fierceadventurer.postservice.service.RevisionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RevisionServiceImpl implements RevisionService {
+
+    // Titles never contain NUL, so it can separate the two fields of a post document.
+    private static final char FIELD_SEPARATOR = '\u0000';
+
+    private final ContentRevisionRepository contentRevisionRepository;
+    private final PostRepository postRepository;
+    private final PostVariantRepository postVariantRepository;
+
+    @Value("${revisions.snapshot-interval:10}")
+    private int snapshotInterval;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordPostRevision(UUID postId, String previousTitle, String previousContent,
+                                   String title, String content, UUID editedBy) {
+        String previous = previousTitle == null && previousContent == null
+                ? null
+                : postDocument(previousTitle, previousContent);
+        record(RevisionSubject.POST, postId, previous, postDocument(title, content), editedBy);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordVariantRevision(UUID variantId, String previousContent, String content, UUID editedBy) {
+        record(RevisionSubject.VARIANT, variantId, previousContent, Objects.requireNonNullElse(content, ""), editedBy);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RevisionSummaryDto> listPostRevisions(UUID postId, UUID userId) {
+        findOwnedPost(postId, userId);
+        return summaries(RevisionSubject.POST, postId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RevisionDto getPostRevision(UUID postId, UUID userId, int revisionNumber) {
+        findOwnedPost(postId, userId);
+        ContentRevision revision = findRevision(RevisionSubject.POST, postId, revisionNumber);
+        String document = reconstruct(RevisionSubject.POST, postId, revisionNumber);
+        int separator = document.indexOf(FIELD_SEPARATOR);
+        return new RevisionDto(revisionNumber, document.substring(0, separator), document.substring(separator + 1),
+                revision.getEditedBy(), revision.getCreatedAt());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<RevisionSummaryDto> listVariantRevisions(UUID postId, UUID userId, UUID variantId) {
+        findOwnedVariant(postId, userId, variantId);
+        return summaries(RevisionSubject.VARIANT, variantId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RevisionDto getVariantRevision(UUID postId, UUID userId, UUID variantId, int revisionNumber) {
+        findOwnedVariant(postId, userId, variantId);
+        ContentRevision revision = findRevision(RevisionSubject.VARIANT, variantId, revisionNumber);
+        return new RevisionDto(revisionNumber, null, reconstruct(RevisionSubject.VARIANT, variantId, revisionNumber),
+                revision.getEditedBy(), revision.getCreatedAt());
+    }
+
+    /**
+     * Appends a revision. The previous text is what the caller just overwrote, which is also
+     * the latest revision, so the delta needs no reconstruction. Entities that predate the
+     * history get their old text stored first as revision 1. Callers hold a write lock on the
+     * subject row, so concurrent edits cannot both claim the next revision number.
+     */
+    private void record(RevisionSubject subject, UUID subjectId, String previous, String next, UUID editedBy) {
+        if (next.equals(previous)) {
+            return;
+        }
+        int latest = contentRevisionRepository.findLatestRevisionNumber(subject, subjectId).orElse(0);
+        if (latest == 0 && previous != null) {
+            save(subject, subjectId, ++latest, true, RevisionCodec.encodeSnapshot(previous), null);
+        }
+
+        int number = latest + 1;
+        byte[] snapshot = RevisionCodec.encodeSnapshot(next);
+        // Periodic snapshots cap reconstruction at snapshotInterval deltas.
+        if (previous == null || latest == 0 || (number - 1) % snapshotInterval == 0) {
+            save(subject, subjectId, number, true, snapshot, editedBy);
+            return;
+        }
+        byte[] delta = RevisionCodec.encodeDelta(previous, next);
+        boolean storeSnapshot = delta.length >= snapshot.length;
+        save(subject, subjectId, number, storeSnapshot, storeSnapshot ? snapshot : delta, editedBy);
+    }
+
+    private void save(RevisionSubject subject, UUID subjectId, int number, boolean snapshot,
+                      byte[] payload, UUID editedBy) {
+        ContentRevision revision = new ContentRevision();
+        revision.setSubject(subject);
+        revision.setSubjectId(subjectId);
+        revision.setRevisionNumber(number);
+        revision.setSnapshot(snapshot);
+        revision.setPayload(payload);
+        revision.setStoredBytes(payload.length);
+        revision.setEditedBy(editedBy);
+        contentRevisionRepository.save(revision);
+        log.debug("Stored {} revision {} of {} {} ({} bytes)", snapshot ? "snapshot" : "delta",
+                number, subject, subjectId, payload.length);
+    }
+
+    private String reconstruct(RevisionSubject subject, UUID subjectId, int revisionNumber) {
+        int base = contentRevisionRepository.findSnapshotAtOrBefore(subject, subjectId, revisionNumber)
+                .orElseThrow(() -> new IllegalStateException("No snapshot for " + subject + " " + subjectId));
+        List<ContentRevision> chain = contentRevisionRepository
+                .findBySubjectAndSubjectIdAndRevisionNumberBetweenOrderByRevisionNumber(
+                        subject, subjectId, base, revisionNumber);
+
+        String text = RevisionCodec.decodeSnapshot(chain.get(0).getPayload());
+        for (ContentRevision revision : chain.subList(1, chain.size())) {
+            text = RevisionCodec.applyDelta(text, revision.getPayload());
+        }
+        return text;
+    }
+
+    private ContentRevision findRevision(RevisionSubject subject, UUID subjectId, int revisionNumber) {
+        return contentRevisionRepository
+                .findBySubjectAndSubjectIdAndRevisionNumberBetweenOrderByRevisionNumber(
+                        subject, subjectId, revisionNumber, revisionNumber)
+                .stream().findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException(
+                        "Revision " + revisionNumber + " not found for " + subject + " " + subjectId));
+    }
+
+    private List<RevisionSummaryDto> summaries(RevisionSubject subject, UUID subjectId) {
+        return contentRevisionRepository.findSummaries(subject, subjectId).stream()
+                .map(summary -> new RevisionSummaryDto(summary.getRevisionNumber(), summary.isSnapshot(),
+                        summary.getStoredBytes(), summary.getEditedBy(), summary.getCreatedAt()))
+                .toList();
+    }
+
+    private Post findOwnedPost(UUID postId, UUID userId) {
+        Post post = postRepository.findByIdAndStatusNot(postId, PostStatus.DELETED)
+                .orElseThrow(() -> new ResourceNotFoundException("Post not found with id: " + postId));
+        if (!post.getUserId().equals(userId)) {
+            throw new AccessDeniedException("User does not have permission to view this post.");
+        }
+        return post;
+    }
+
+    private void findOwnedVariant(UUID postId, UUID userId, UUID variantId) {
+        Post post = findOwnedPost(postId, userId);
+        PostVariant variant = postVariantRepository.findById(variantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Cannot find variant with id: " + variantId));
+        if (!variant.getPost().getId().equals(post.getId())) {
+            throw new ResourceNotFoundException("Variant " + variantId + " does not belong to post " + postId);
+        }
+    }
+
+    private static String postDocument(String title, String content) {
+        return Objects.requireNonNullElse(title, "") + FIELD_SEPARATOR + Objects.requireNonNullElse(content, "");
+    }
+}
@@ -0,0 +1,6 @@
+package com.fierceadventurer.postservice.service;
+
+public interface OutboxService {
+    void enqueue(String topic, String messageKey, Object payload);
+    void relayPendingEvents();
+}
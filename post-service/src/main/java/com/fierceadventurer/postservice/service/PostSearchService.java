@@ -0,0 +1,19 @@
+package com.fierceadventurer.postservice.service;
+
+import com.fierceadventurer.postservice.dto.PostSearchResponseDto;
+import com.fierceadventurer.postservice.entity.Post;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Per-user full-text search over post titles, bodies, variant copy and hashtags.
+ * Writers call {@link #index(Post)} inside their transaction after changing a post or any
+ * of its variants; the backend is picked with posts.search.backend (postgres or memory).
+ */
+public interface PostSearchService {
+    void index(Post post);
+    void indexAll(Collection<Post> posts);
+    void remove(UUID postId);
+    PostSearchResponseDto search(UUID userId, String query, String cursor, int size);
+}
@@ -1,5 +1,6 @@
 package com.fierceadventurer.postservice.service;
 
+import com.fierceadventurer.postservice.dto.PostPageResponseDto;
 import com.fierceadventurer.postservice.dto.PostRequestDto;
 
 import com.fierceadventurer.postservice.dto.PostResponseDto;
@@ -11,8 +12,9 @@ import java.util.UUID;
 
 public interface PostService {
     PostResponseDto createPost(PostRequestDto postRequestDto, UUID userId);
-    PostResponseDto updatePostById(UUID postId , PostRequestDto postRequestDto);
+    PostResponseDto updatePostById(UUID postId , UUID userId , PostRequestDto postRequestDto);
     PostResponseDto getPostById(UUID postId);
     Page<PostResponseDto> getAllPosts(Pageable pageable);
+    PostPageResponseDto getPostsForUser(UUID userId, String cursor, int size);
     void deletePostById(UUID postId);
 }
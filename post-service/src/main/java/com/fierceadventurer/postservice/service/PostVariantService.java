@@ -9,6 +9,7 @@ import java.util.UUID;
 
 public interface PostVariantService {
     PostVariantResponseDto createNewVariant(UUID postId ,UUID userId, CreatePostVariantRequestDto createDto);
+    List<PostVariantResponseDto> createNewVariants(UUID postId ,UUID userId, List<CreatePostVariantRequestDto> createDtos);
     PostVariantResponseDto getPostVariantById(UUID postId ,UUID userId, UUID variantId);
     PostVariantResponseDto updateExistingVariant(UUID postId, UUID userId ,UUID variantId , UpdatePostVariantRequestDto updateDto);
     List<PostVariantResponseDto> getAllPostVariants(UUID postId, UUID userId);
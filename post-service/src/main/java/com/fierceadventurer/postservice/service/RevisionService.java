@@ -0,0 +1,19 @@
+package com.fierceadventurer.postservice.service;
+
+import com.fierceadventurer.postservice.dto.RevisionDto;
+import com.fierceadventurer.postservice.dto.RevisionSummaryDto;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface RevisionService {
+    /** previousTitle/previousContent are null when the post is new. */
+    void recordPostRevision(UUID postId, String previousTitle, String previousContent,
+                            String title, String content, UUID editedBy);
+    void recordVariantRevision(UUID variantId, String previousContent, String content, UUID editedBy);
+
+    List<RevisionSummaryDto> listPostRevisions(UUID postId, UUID userId);
+    RevisionDto getPostRevision(UUID postId, UUID userId, int revisionNumber);
+    List<RevisionSummaryDto> listVariantRevisions(UUID postId, UUID userId, UUID variantId);
+    RevisionDto getVariantRevision(UUID postId, UUID userId, UUID variantId, int revisionNumber);
+}
@@ -0,0 +1,69 @@
+package com.fierceadventurer.postservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NearDuplicateIndexTest {
+
+    private static final UUID ACCOUNT_ID = UUID.randomUUID();
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2024, 6, 3, 9, 0);
+    private static final long FINGERPRINT = 0x0123_4567_89ab_cdefL;
+
+    private final NearDuplicateIndex index = new NearDuplicateIndex(3, Duration.ofDays(7));
+
+    @Test
+    void findNearDuplicates_ShouldMatchWithinThresholdEvenWhenEveryBandButOneDiffers() {
+        UUID variantId = UUID.randomUUID();
+        index.put(new NearDuplicateIndex.Entry(variantId, ACCOUNT_ID, FINGERPRINT, MONDAY));
+
+        // One flipped bit in each of three bands leaves only the top band shared.
+        long probe = FINGERPRINT ^ (1L | 1L << 16 | 1L << 32);
+        List<NearDuplicateIndex.Entry> matches = index.findNearDuplicates(ACCOUNT_ID, probe, MONDAY.plusDays(1), null);
+
+        assertEquals(1, matches.size());
+        assertEquals(variantId, matches.get(0).variantId());
+    }
+
+    @Test
+    void findNearDuplicates_ShouldSkipDistantFingerprintsSharingABand() {
+        index.put(new NearDuplicateIndex.Entry(UUID.randomUUID(), ACCOUNT_ID, FINGERPRINT, MONDAY));
+
+        // Same low band, but four bits apart in total.
+        long probe = FINGERPRINT ^ (0b1111L << 16);
+        assertTrue(index.findNearDuplicates(ACCOUNT_ID, probe, MONDAY, null).isEmpty());
+    }
+
+    @Test
+    void findNearDuplicates_ShouldRespectAccountWindowAndExclusion() {
+        UUID variantId = UUID.randomUUID();
+        index.put(new NearDuplicateIndex.Entry(variantId, ACCOUNT_ID, FINGERPRINT, MONDAY));
+
+        assertTrue(index.findNearDuplicates(UUID.randomUUID(), FINGERPRINT, MONDAY, null).isEmpty());
+        assertTrue(index.findNearDuplicates(ACCOUNT_ID, FINGERPRINT, MONDAY.plusDays(8), null).isEmpty());
+        assertTrue(index.findNearDuplicates(ACCOUNT_ID, FINGERPRINT, MONDAY, variantId).isEmpty());
+    }
+
+    @Test
+    void put_ShouldReplaceThePreviousFingerprintOfAVariant() {
+        UUID variantId = UUID.randomUUID();
+        index.put(new NearDuplicateIndex.Entry(variantId, ACCOUNT_ID, FINGERPRINT, MONDAY));
+        index.put(new NearDuplicateIndex.Entry(variantId, ACCOUNT_ID, ~FINGERPRINT, MONDAY));
+
+        assertTrue(index.findNearDuplicates(ACCOUNT_ID, FINGERPRINT, MONDAY, null).isEmpty());
+        assertEquals(1, index.findNearDuplicates(ACCOUNT_ID, ~FINGERPRINT, MONDAY, null).size());
+
+        index.remove(variantId);
+        assertTrue(index.findNearDuplicates(ACCOUNT_ID, ~FINGERPRINT, MONDAY, null).isEmpty());
+    }
+
+    @Test
+    void constructor_ShouldRejectADistanceTheBandsCannotGuarantee() {
+        assertThrows(IllegalArgumentException.class, () -> new NearDuplicateIndex(4, Duration.ofDays(7)));
+    }
+}
@@ -0,0 +1,43 @@
+package com.fierceadventurer.postservice.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimHashTest {
+
+    @Test
+    void distance_ShouldCountDifferingBits() {
+        assertEquals(0, SimHash.distance(0L, 0L));
+        assertEquals(1, SimHash.distance(0b1000L, 0L));
+        assertEquals(64, SimHash.distance(-1L, 0L));
+        assertEquals(2, SimHash.distance(Long.MIN_VALUE | 1L, 0L));
+    }
+
+    @Test
+    void fingerprint_ShouldIgnoreCaseAndPunctuation() {
+        Long original = SimHash.fingerprint("Launching our new product next week, stay tuned!");
+        Long restyled = SimHash.fingerprint("launching OUR new product -- next week. Stay tuned");
+
+        assertNotNull(original);
+        assertEquals(original, restyled);
+    }
+
+    @Test
+    void fingerprint_ShouldKeepSmallEditsCloserThanUnrelatedText() {
+        String base = "We are excited to announce the opening of our new office in Berlin next month. "
+                + "Join us for the launch party and meet the team behind the product.";
+        long original = SimHash.fingerprint(base);
+        long edited = SimHash.fingerprint(base.replace("next month", "in two weeks"));
+        long unrelated = SimHash.fingerprint("Quarterly results are in: revenue grew twelve percent while "
+                + "churn fell for the third straight quarter, thanks to our support staff.");
+
+        assertTrue(SimHash.distance(original, edited) < SimHash.distance(original, unrelated));
+    }
+
+    @Test
+    void fingerprint_ShouldBeNullWithoutWords() {
+        assertNull(SimHash.fingerprint(null));
+        assertNull(SimHash.fingerprint("  !!! ... "));
+    }
+}
@@ -0,0 +1,89 @@
+package com.fierceadventurer.postservice.repository;
+
+import com.fierceadventurer.postservice.entity.MediaAsset;
+import com.fierceadventurer.postservice.entity.Post;
+import com.fierceadventurer.postservice.enums.PostStatus;
+import com.fierceadventurer.postservice.enums.PostType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PostRepositoryTest {
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final UUID userId = UUID.randomUUID();
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 5; i++) {
+            Post post = new Post();
+            post.setUserId(userId);
+            post.setTitle("Post " + i);
+            post.setContent("Content " + i);
+            post.setStatus(PostStatus.DRAFT);
+            for (int j = 0; j < 3; j++) {
+                MediaAsset asset = new MediaAsset();
+                asset.setUserId(userId);
+                asset.setStorageUrl("http://media/" + i + "/" + j);
+                asset.setSize(1024L);
+                asset.setMediaType(PostType.IMAGE);
+                post.addMediaAsset(asset);
+            }
+            entityManager.persist(post);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void userPage_ShouldLoadPostsAndMediaInTwoQueries() {
+        List<Post> page = postRepository.findFirstPageByUser(userId, PostStatus.DELETED, Limit.of(5));
+        postRepository.fetchMediaAssets(page.stream().map(Post::getId).toList());
+
+        int mediaCount = page.stream().mapToInt(post -> post.getMediaAssets().size()).sum();
+
+        assertEquals(5, page.size());
+        assertEquals(15, mediaCount);
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void userPage_ShouldContinueAfterCursorWithoutOverlap() {
+        List<Post> first = postRepository.findFirstPageByUser(userId, PostStatus.DELETED, Limit.of(3));
+        Post last = first.get(first.size() - 1);
+
+        List<Post> second = postRepository.findPageByUserAfter(userId, PostStatus.DELETED,
+                last.getLastEdited(), last.getId(), Limit.of(3));
+
+        assertEquals(2, second.size());
+        assertTrue(second.stream().noneMatch(first::contains));
+    }
+}
@@ -0,0 +1,91 @@
+package com.fierceadventurer.postservice.service.Impl;
+
+import com.fierceadventurer.postservice.dto.PostSearchHitDto;
+import com.fierceadventurer.postservice.dto.PostSearchResponseDto;
+import com.fierceadventurer.postservice.entity.Hashtag;
+import com.fierceadventurer.postservice.entity.Post;
+import com.fierceadventurer.postservice.entity.PostVariant;
+import com.fierceadventurer.postservice.enums.PostStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryPostSearchServiceImplTest {
+
+    private final InMemoryPostSearchServiceImpl searchService = new InMemoryPostSearchServiceImpl();
+    private final UUID userId = UUID.randomUUID();
+
+    private Post post(UUID owner, String title, String content, String... hashtags) {
+        Post post = new Post();
+        post.setId(UUID.randomUUID());
+        post.setUserId(owner);
+        post.setTitle(title);
+        post.setContent(content);
+        post.setStatus(PostStatus.DRAFT);
+        if (hashtags.length > 0) {
+            PostVariant variant = new PostVariant();
+            for (String name : hashtags) {
+                Hashtag tag = new Hashtag();
+                tag.setName(Hashtag.normalize(name));
+                variant.getHashtagRefs().add(tag);
+            }
+            post.addVariant(variant);
+        }
+        return post;
+    }
+
+    @Test
+    void search_ShouldRankTitleMatchesAboveBodyMatches() {
+        Post bodyMatch = post(userId, "Weekly update", "Notes from the product launch call");
+        Post titleMatch = post(userId, "Product launch", "Everything ships on Monday");
+        searchService.index(bodyMatch);
+        searchService.index(titleMatch);
+
+        PostSearchResponseDto result = searchService.search(userId, "launch", null, 10);
+
+        assertEquals(List.of(titleMatch.getId(), bodyMatch.getId()),
+                result.getItems().stream().map(PostSearchHitDto::getPostId).toList());
+        assertTrue(result.getItems().get(1).getSnippet().contains("<mark>launch</mark>"));
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void search_ShouldOnlyReturnCallersPostsAndMatchHashtags() {
+        Post mine = post(userId, "Draft", "Spring sale", "#promo");
+        searchService.index(mine);
+        searchService.index(post(UUID.randomUUID(), "Other", "Spring sale", "#promo"));
+
+        PostSearchResponseDto result = searchService.search(userId, "promo", null, 10);
+
+        assertEquals(1, result.getItems().size());
+        assertEquals(mine.getId(), result.getItems().get(0).getPostId());
+    }
+
+    @Test
+    void search_ShouldPageWithCursorWithoutOverlap() {
+        for (int i = 0; i < 5; i++) {
+            searchService.index(post(userId, "Post " + i, "roadmap review"));
+        }
+
+        PostSearchResponseDto first = searchService.search(userId, "roadmap", null, 3);
+        PostSearchResponseDto second = searchService.search(userId, "roadmap", first.getNextCursor(), 3);
+
+        assertEquals(3, first.getItems().size());
+        assertEquals(2, second.getItems().size());
+        assertNull(second.getNextCursor());
+        assertTrue(second.getItems().stream().noneMatch(first.getItems()::contains));
+    }
+
+    @Test
+    void remove_ShouldDropPostFromResults() {
+        Post post = post(userId, "Roadmap", "Quarterly roadmap");
+        searchService.index(post);
+
+        searchService.remove(post.getId());
+
+        assertTrue(searchService.search(userId, "roadmap", null, 10).getItems().isEmpty());
+    }
+}
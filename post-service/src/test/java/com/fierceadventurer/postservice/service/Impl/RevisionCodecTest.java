@@ -0,0 +1,38 @@
+package com.fierceadventurer.postservice.service.Impl;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevisionCodecTest {
+
+    @Test
+    void applyDelta_ShouldReproduceEditedText() {
+        String previous = "Launching our new product next week. Stay tuned for details!";
+        String next = "Launching our redesigned product next Monday. Stay tuned for details!";
+
+        byte[] delta = RevisionCodec.encodeDelta(previous, next);
+
+        assertEquals(next, RevisionCodec.applyDelta(previous, delta));
+    }
+
+    @Test
+    void applyDelta_ShouldHandleInsertionsDeletionsAndEmojis() {
+        String previous = "Big news 🚀 coming";
+        assertEquals("Big news 🚀🚀 coming", RevisionCodec.applyDelta(previous,
+                RevisionCodec.encodeDelta(previous, "Big news 🚀🚀 coming")));
+        assertEquals("Big news", RevisionCodec.applyDelta(previous,
+                RevisionCodec.encodeDelta(previous, "Big news")));
+        assertEquals("", RevisionCodec.applyDelta(previous, RevisionCodec.encodeDelta(previous, "")));
+    }
+
+    @Test
+    void encodeDelta_ShouldBeSmallerThanSnapshotForLocalEdits() {
+        String previous = "Quarterly update. ".repeat(200);
+        String next = previous + "One more line.";
+
+        assertTrue(RevisionCodec.encodeDelta(previous, next).length
+                < RevisionCodec.encodeSnapshot(next).length);
+        assertEquals(next, RevisionCodec.decodeSnapshot(RevisionCodec.encodeSnapshot(next)));
+    }
+}
@@ -13,4 +13,6 @@ public interface ScheduledJobRepository extends JpaRepository<ScheduledJob, UUID
 
     List<ScheduledJob> findTop10ByStatusAndScheduledAtBeforeAndDeletedAtIsNullOrderByScheduledAtAsc(
         JobStatus status, LocalDateTime currentTime);
+
+    boolean existsByPostVariantId(UUID postVariantId);
 }
@@ -21,6 +21,10 @@ public class KafkaConsumerService {
             topics = "variant-scheduling-topic" , groupId = "scheduler-group" ,containerFactory = "kafkaListenerContainerFactory")
     public void consumeSchedulingEvent(VariantReadyForSchedulingEvent event){
         log.info("Consumed scheduling event for variantID : {} . Creating Job." , event.getVariantId());
+        if(scheduledJobRepository.existsByPostVariantId(event.getVariantId())){
+            log.warn("ScheduledJob already exists for variantId {}. Skipping redelivered event.", event.getVariantId());
+            return;
+        }
         ScheduledJob job = schedulerMapper.toEntity(event);
         scheduledJobRepository.save(job);
         log.info("Successfully created ScheduledJob for variantId {}", job.getPostVariantId());
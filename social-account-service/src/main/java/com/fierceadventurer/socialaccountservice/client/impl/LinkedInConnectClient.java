@@ -4,10 +4,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fierceadventurer.socialaccountservice.dto.*;
 import com.fierceadventurer.socialaccountservice.exception.LinkedInServiceException;
+import com.fierceadventurer.socialaccountservice.service.LinkedInAssetCacheService;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.http.client.ClientHttpResponse;
@@ -19,12 +22,16 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestTemplate;
 
 import java.util.Collections;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Slf4j
 @Component
@@ -37,15 +44,28 @@ public class LinkedInConnectClient {
     private final RestClient tokenRestClient;
     private final ObjectMapper objectMapper;
     private final RestTemplate restTemplate;
+    private final RestTemplate streamingRestTemplate;
+    private final ExecutorService mediaUploadExecutor;
+    private final LinkedInAssetCacheService assetCacheService;
 
     public LinkedInConnectClient(
             @Value("${linkedin.client-id}") String clientId,
-            @Value("${linkedin.client-secret}") String clientSecret
+            @Value("${linkedin.client-secret}") String clientSecret,
+            @Value("${linkedin.media-upload.parallelism:4}") int mediaUploadParallelism,
+            LinkedInAssetCacheService assetCacheService
     ) {
         this.clientId = clientId;
         this.clientSecret = clientSecret;
+        this.assetCacheService = assetCacheService;
+        this.mediaUploadExecutor = Executors.newFixedThreadPool(mediaUploadParallelism);
         this.objectMapper = new ObjectMapper();
-        HttpClient httpClient = HttpClients.createDefault();
+        // Each in-flight upload holds a media-storage connection while it registers and PUTs to LinkedIn.
+        HttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                        .setMaxConnPerRoute(mediaUploadParallelism * 2)
+                        .setMaxConnTotal(mediaUploadParallelism * 4)
+                        .build())
+                .build();
         HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(httpClient);
         factory.setConnectTimeout(15000);
 
@@ -58,6 +78,9 @@ public class LinkedInConnectClient {
             return execution.execute(request, body);
         }));
 
+        // No interceptors here: an intercepted request buffers its whole body before sending.
+        this.streamingRestTemplate = new RestTemplate(factory);
+
         this.tokenRestClient = RestClient.builder()
                 .baseUrl("https://www.linkedin.com")
                 .defaultStatusHandler(
@@ -78,6 +101,11 @@ public class LinkedInConnectClient {
         this.apiRestClient = RestClient.create("https://api.linkedin.com");
     }
 
+    @PreDestroy
+    public void shutdown() {
+        mediaUploadExecutor.shutdown();
+    }
+
     private String getErrorMessage(ClientHttpResponse response) {
         try {
             LinkedInErrorResponse error = objectMapper.readValue(response.getBody(), LinkedInErrorResponse.class);
@@ -147,11 +175,7 @@ public class LinkedInConnectClient {
         }
         String url = "https://api.linkedin.com/v2/ugcPosts";
 
-        UploadedMediaInfo uploadInfo = null;
-        if(requestDto.getMediaUrls() != null && !requestDto.getMediaUrls().isEmpty()){
-            String internalUrl = requestDto.getMediaUrls().get(0);
-            uploadInfo = uploadImageToLinkedIn(author , accessToken , internalUrl);
-        }
+        List<UploadedMediaInfo> uploads = uploadAllMedia(author, accessToken, requestDto.getMediaUrls());
 
         Map<String, Object> bodyMap = new HashMap<>();
         bodyMap.put("author", author);
@@ -164,18 +188,29 @@ public class LinkedInConnectClient {
         shareCommentary.put("text", requestDto.getContent());
         shareContent.put("shareCommentary", shareCommentary);
 
-        if(uploadInfo != null){
-            shareContent.put("shareMediaCategory", uploadInfo.getCategory());
-            Map<String, Object> media = new HashMap<>();
-            media.put("status","READY");
-            media.put("media" , uploadInfo.getAssetUrn());
-            shareContent.put("media", Collections.singletonList(media));
-        }
-        else if (requestDto.getMediaUrls() != null && !requestDto.getMediaUrls().isEmpty()) {
+        if(uploads.stream().anyMatch(Objects::isNull)){
             String errorMsg = "Native Media Upload Failed. Possible reasons: PDF on Personal Profile (Not Supported), or Network Error.";
             log.error(errorMsg);
             throw new LinkedInServiceException(errorMsg);
         }
+        else if(!uploads.isEmpty()){
+            String category = uploads.get(0).getCategory();
+            if(uploads.size() > 1 && uploads.stream().anyMatch(info -> !"IMAGE".equals(info.getCategory()))){
+                String errorMsg = "LinkedIn only supports multiple media items for image posts.";
+                log.error(errorMsg);
+                throw new LinkedInServiceException(errorMsg);
+            }
+            shareContent.put("shareMediaCategory", category);
+
+            List<Map<String, Object>> mediaList = new ArrayList<>();
+            for(UploadedMediaInfo uploadInfo : uploads){
+                Map<String, Object> media = new HashMap<>();
+                media.put("status","READY");
+                media.put("media" , uploadInfo.getAssetUrn());
+                mediaList.add(media);
+            }
+            shareContent.put("media", mediaList);
+        }
         else {
             shareContent.put("shareMediaCategory","NONE");
         }
@@ -210,120 +245,183 @@ public class LinkedInConnectClient {
         }
     }
 
-    private UploadedMediaInfo uploadImageToLinkedIn(String author, String accessToken, String mediaServiceUrl) {
-        log.info("starting Native Image Upload for Internal URL: {}" , mediaServiceUrl);
+    /**
+     * Registers and uploads every media URL concurrently on the bounded upload pool.
+     * Results keep the order of {@code mediaUrls}; a failed upload is a {@code null} entry.
+     */
+    private List<UploadedMediaInfo> uploadAllMedia(String author, String accessToken, List<String> mediaUrls) {
+        if(mediaUrls == null || mediaUrls.isEmpty()){
+            return Collections.emptyList();
+        }
 
-        try{
-            String keycloakToken = "";
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if(authentication != null && authentication.getPrincipal() instanceof Jwt jwt){
-                keycloakToken = jwt.getTokenValue();
-            }
+        // Worker threads don't inherit the SecurityContext, so resolve the caller's token up front.
+        String keycloakToken = "";
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if(authentication != null && authentication.getPrincipal() instanceof Jwt jwt){
+            keycloakToken = jwt.getTokenValue();
+        }
+        String internalToken = keycloakToken;
 
-            HttpHeaders internalHeaders = new HttpHeaders();
-            if(!keycloakToken.isEmpty()){
-                internalHeaders.set("Authorization","Bearer " + keycloakToken);
-            }
-            HttpEntity<Void> responseEntity = new HttpEntity<>(internalHeaders);
+        List<CompletableFuture<UploadedMediaInfo>> uploads = mediaUrls.stream()
+                .map(mediaUrl -> CompletableFuture.supplyAsync(
+                        () -> uploadImageToLinkedIn(author, accessToken, internalToken, mediaUrl),
+                        mediaUploadExecutor))
+                .toList();
+
+        return uploads.stream()
+                .map(CompletableFuture::join)
+                .toList();
+    }
+
+    private UploadedMediaInfo uploadImageToLinkedIn(String author, String accessToken,
+                                                    String internalToken, String mediaServiceUrl) {
+        log.info("starting Native Image Upload for Internal URL: {}" , mediaServiceUrl);
 
-            ResponseEntity<byte[]> mediaResponse = restTemplate.exchange(
+        try{
+            // The media response stays open while we register and PUT, so the bytes flow
+            // from media-storage to LinkedIn through a fixed-size copy buffer.
+            return streamingRestTemplate.execute(
                     mediaServiceUrl,
                     HttpMethod.GET,
-                    responseEntity,
-                    byte[].class
+                    request -> {
+                        if(!internalToken.isEmpty()){
+                            request.getHeaders().set("Authorization","Bearer " + internalToken);
+                        }
+                    },
+                    mediaResponse -> transferMediaToLinkedIn(author, accessToken, mediaResponse)
             );
 
-            byte[] mediaBytes = mediaResponse.getBody();
-            if(mediaBytes == null || mediaBytes.length == 0) {
-                throw new RuntimeException("Empty image response from Media Service");
-            }
+        }
+        catch (Exception e) {
+            log.error("Failed to upload media to Linkedin. Continuing as Text-Only. Reason: {}" , e.getMessage());
+            return null;
+        }
 
-            MediaType contentType  = mediaResponse.getHeaders().getContentType();
-            if (contentType == null) {
-                log.warn("No Content-Type header from Media Service. Aborting upload.");
-                return null;
+    }
+
+    private UploadedMediaInfo transferMediaToLinkedIn(String author, String accessToken,
+                                                      ClientHttpResponse mediaResponse) throws IOException {
+        long contentLength = mediaResponse.getHeaders().getContentLength();
+        if(contentLength == 0) {
+            throw new RuntimeException("Empty image response from Media Service");
+        }
+
+        String contentHash = extractContentHash(mediaResponse.getHeaders());
+        if(contentHash != null){
+            Optional<UploadedMediaInfo> cachedAsset = assetCacheService.findAsset(author, contentHash);
+            if(cachedAsset.isPresent()){
+                log.info("Reusing LinkedIn asset {} for identical media", cachedAsset.get().getAssetUrn());
+                return cachedAsset.get();
             }
+        }
+
+        MediaType contentType  = mediaResponse.getHeaders().getContentType();
+        if (contentType == null) {
+            log.warn("No Content-Type header from Media Service. Aborting upload.");
+            return null;
+        }
 
-            log.info("Detected Content-Type: {}", contentType);
+        log.info("Detected Content-Type: {} ({} bytes)", contentType, contentLength);
 
-            String recipe;
-            String category;
-            String typeStr = contentType.toString().toLowerCase();
-            String relationshipIdentifier = "urn:li:userGeneratedContent";
+        String recipe;
+        String category;
+        String typeStr = contentType.toString().toLowerCase();
+        String relationshipIdentifier = "urn:li:userGeneratedContent";
 
-            if(typeStr.contains("image")){
-                recipe = "urn:li:digitalmediaRecipe:feedshare-image";
-                category = "IMAGE";
+        if(typeStr.contains("image")){
+            recipe = "urn:li:digitalmediaRecipe:feedshare-image";
+            category = "IMAGE";
+        }
+        else if(typeStr.contains("video")){
+            recipe = "urn:li:digitalmediaRecipe:feedshare-video";
+            category = "VIDEO";
+        }
+        else if(typeStr.contains("pdf") ||
+                 typeStr.contains("msword") ||
+                 typeStr.contains("officedocument") ||
+                 typeStr.contains("powerpoint")){
+            if (author.contains("organization")) {
+                recipe = "urn:li:digitalmediaRecipe:feedshare-document";
+                category = "NATIVE_DOCUMENT";
+                relationshipIdentifier = author;
+            } else {
+                log.error("ABORTING: Native PDF/Document upload is NOT supported for Personal Profiles ({}).", author);
+                return null;
             }
-            else if(typeStr.contains("video")){
-                recipe = "urn:li:digitalmediaRecipe:feedshare-video";
-                category = "VIDEO";
+        }
+        else {
+            log.warn("Unsupported media type for native upload: {}",contentType);
+            return null;
+        }
+
+        String registerUrl = "https://api.linkedin.com/v2/assets?action=registerUpload";
+        Map<String, Object> regBody = new HashMap<>();
+        Map<String , Object> registerUploadRequest = new HashMap<>();
+        registerUploadRequest.put("recipes", Collections.singletonList(recipe));
+        registerUploadRequest.put("owner" , author);
+        registerUploadRequest.put("serviceRelationships", Collections.singletonList(Map.of(
+                "relationshipType", "OWNER",
+                "identifier", relationshipIdentifier)));
+
+
+        regBody.put("registerUploadRequest", registerUploadRequest);
+        String regJson = objectMapper.writeValueAsString(regBody);
+        log.info("Register Upload Payload: {}", regJson);
+        HttpHeaders authHeader = new HttpHeaders();
+        authHeader.setContentType(MediaType.APPLICATION_JSON);
+        authHeader.set("Authorization", "Bearer " + accessToken);
+
+        HttpEntity<String> regEntity = new HttpEntity<>(regJson , authHeader);
+
+        ResponseEntity<String> regResponse = restTemplate.exchange(
+                registerUrl , HttpMethod.POST , regEntity , String.class);
+        JsonNode regNode = objectMapper.readTree(regResponse.getBody());
+
+        String uploadUrl = regNode.path("value")
+                .path("uploadMechanism")
+                .path("com.linkedin.digitalmedia.uploading.MediaUploadHttpRequest")
+                .path("uploadUrl").asText();
+        String assetUrn = regNode.path("value").path("asset").asText();
+
+        log.info("Registered. Asset URN: {}", assetUrn);
+
+        streamingRestTemplate.execute(uploadUrl, HttpMethod.PUT, request -> {
+            request.getHeaders().set("Authorization","Bearer " + accessToken);
+            request.getHeaders().setContentType(MediaType.APPLICATION_OCTET_STREAM);
+            if(contentLength > 0){
+                request.getHeaders().setContentLength(contentLength);
             }
-            else if(typeStr.contains("pdf") ||
-                     typeStr.contains("msword") ||
-                     typeStr.contains("officedocument") ||
-                     typeStr.contains("powerpoint")){
-                if (author.contains("organization")) {
-                    recipe = "urn:li:digitalmediaRecipe:feedshare-document";
-                    category = "NATIVE_DOCUMENT";
-                    relationshipIdentifier = author;
-                } else {
-                    log.error("ABORTING: Native PDF/Document upload is NOT supported for Personal Profiles ({}).", author);
-                    return null;
-                }
+            if(request instanceof StreamingHttpOutputMessage streamingRequest){
+                streamingRequest.setBody(outputStream -> StreamUtils.copy(mediaResponse.getBody(), outputStream));
             }
             else {
-                log.warn("Unsupported media type for native upload: {}",contentType);
-                return null;
+                StreamUtils.copy(mediaResponse.getBody(), request.getBody());
             }
+        }, null);
 
-            String registerUrl = "https://api.linkedin.com/v2/assets?action=registerUpload";
-            Map<String, Object> regBody = new HashMap<>();
-            Map<String , Object> registerUploadRequest = new HashMap<>();
-            registerUploadRequest.put("recipes", Collections.singletonList(recipe));
-            registerUploadRequest.put("owner" , author);
-            registerUploadRequest.put("serviceRelationships", Collections.singletonList(Map.of(
-                    "relationshipType", "OWNER",
-                    "identifier", relationshipIdentifier)));
-
-
-            regBody.put("registerUploadRequest", registerUploadRequest);
-            String regJson = objectMapper.writeValueAsString(regBody);
-            log.info("Register Upload Payload: {}", regJson);
-            HttpHeaders authHeader = new HttpHeaders();
-            authHeader.setContentType(MediaType.APPLICATION_JSON);
-            authHeader.set("Authorization", "Bearer " + accessToken);
-
-            HttpEntity<String> regEntity = new HttpEntity<>(regJson , authHeader);
-
-            ResponseEntity<String> regResponse = restTemplate.exchange(
-                    registerUrl , HttpMethod.POST , regEntity , String.class);
-            JsonNode regNode = objectMapper.readTree(regResponse.getBody());
-
-            String uploadUrl = regNode.path("value")
-                    .path("uploadMechanism")
-                    .path("com.linkedin.digitalmedia.uploading.MediaUploadHttpRequest")
-                    .path("uploadUrl").asText();
-            String assetUrn = regNode.path("value").path("asset").asText();
-
-            log.info("Registered. Asset URN: {}", assetUrn);
-
-            HttpHeaders uploadHeaders = new HttpHeaders();
-            uploadHeaders.set("Authorization","Bearer " + accessToken);
-            uploadHeaders.setContentType(MediaType.APPLICATION_OCTET_STREAM);
-
-            HttpEntity<byte[]> uploadEntity = new HttpEntity<>(mediaBytes , uploadHeaders);
-            restTemplate.put(uploadUrl , uploadEntity);
-
-            log.info("Binary Upload Completed Successfully");
-            return new UploadedMediaInfo(assetUrn , category);
-
+        log.info("Binary Upload Completed Successfully");
+        UploadedMediaInfo uploadedMedia = new UploadedMediaInfo(assetUrn , category);
+        if(contentHash != null){
+            try {
+                assetCacheService.saveAsset(author, contentHash, uploadedMedia);
+            }
+            catch (Exception e){
+                // The media is already on LinkedIn; losing the cache entry only costs a re-upload next time.
+                log.warn("Failed to cache LinkedIn asset {}: {}", assetUrn, e.getMessage());
+            }
         }
-        catch (Exception e) {
-            log.error("Failed to upload media to Linkedin. Continuing as Text-Only. Reason: {}" , e.getMessage());
+        return uploadedMedia;
+    }
+
+    private String extractContentHash(HttpHeaders headers) {
+        String eTag = headers.getETag();
+        if(eTag == null || eTag.isBlank()){
             return null;
         }
-
+        if(eTag.startsWith("W/")){
+            eTag = eTag.substring(2);
+        }
+        return eTag.replace("\"", "");
     }
 
     public LinkedInOrgResponse fetchUserCompanies(String accessToken){
@@ -2,9 +2,7 @@ package com.fierceadventurer.socialaccountservice.controller;
 
 import com.fierceadventurer.socialaccountservice.dto.TokenResponseDto;
 import com.fierceadventurer.socialaccountservice.entities.AuthToken;
-import com.fierceadventurer.socialaccountservice.entities.SocialAccount;
-import com.fierceadventurer.socialaccountservice.repository.SocialAccountRepository;
-import com.fierceadventurer.socialaccountservice.service.SocialAccountService;
+import com.fierceadventurer.socialaccountservice.repository.AuthTokenRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -14,8 +12,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.ZoneOffset;
-import java.util.Comparator;
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -24,22 +20,12 @@ import java.util.UUID;
 @Slf4j
 public class InternalController {
 
-    private final SocialAccountRepository socialAccountRepository;
+    private final AuthTokenRepository authTokenRepository;
     @GetMapping("/{accountId}/token")
     public ResponseEntity<TokenResponseDto> getAccessToken(@PathVariable UUID accountId) {
         log.info("Internal request: Fetching token for account {}", accountId);
-        SocialAccount account = socialAccountRepository.findById(accountId)
-                .orElseThrow(()-> new RuntimeException("Account not found: " + accountId));
-
-        List<AuthToken> tokens = account.getAuthTokens();
-        if(account.getAuthTokens() == null || account.getAuthTokens().isEmpty()){
-            throw new RuntimeException("No auth tokens found for account: " + accountId);
-        }
-
-        AuthToken tokenEntity = tokens.stream()
-                .filter(t -> t.getCreatedAt() != null)
-                .max(Comparator.comparing(AuthToken::getCreatedAt))
-                .orElse(tokens.get(tokens.size() -1));
+        AuthToken tokenEntity = authTokenRepository.findFirstBySocialAccount_AccountIdOrderByCreatedAtDesc(accountId)
+                .orElseThrow(()-> new RuntimeException("No auth tokens found for account: " + accountId));
 
         long expiresAtEpoch = 0;
         if(tokenEntity.getExpiry() != null){
@@ -1,5 +1,7 @@
 package com.fierceadventurer.socialaccountservice.controller;
 
+import com.fierceadventurer.socialaccountservice.dto.AccountOwnershipDto;
+import com.fierceadventurer.socialaccountservice.dto.AccountOwnershipRequestDto;
 import com.fierceadventurer.socialaccountservice.dto.CreateSocialAccountRequestDto;
 import com.fierceadventurer.socialaccountservice.dto.PublishRequestDto;
 import com.fierceadventurer.socialaccountservice.dto.SocialAccountResponseDto;
@@ -16,6 +18,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -80,6 +83,16 @@ public class SocialAccountController {
         return ResponseEntity.ok(account);
     }
 
+    @PostMapping("/ownership")
+    public ResponseEntity<List<AccountOwnershipDto>> getAccountOwnership(
+            @Valid @RequestBody AccountOwnershipRequestDto requestDto,
+            @AuthenticationPrincipal Jwt jwt){
+        UUID userId = UUID.fromString(jwt.getSubject());
+        List<AccountOwnershipDto> ownership = accountQueryService.getAccountOwnership(
+                userId, requestDto.getAccountIds());
+        return ResponseEntity.ok(ownership);
+    }
+
     @PostMapping("/{accountId}/publish")
     public ResponseEntity<String> publishPost(@PathVariable UUID accountId, @RequestBody PublishRequestDto requestDto) {
         String postId = socialAccountService.publishContent(accountId, requestDto);
@@ -0,0 +1,17 @@
+package com.fierceadventurer.socialaccountservice.dto;
+
+import com.fierceadventurer.socialaccountservice.enums.AccountEventType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountLifecycleEvent {
+    private UUID socialAccountId;
+    private UUID previousUserId;
+    private AccountEventType eventType;
+}
@@ -0,0 +1,27 @@
+package com.fierceadventurer.socialaccountservice.dto;
+
+import com.fierceadventurer.socialaccountservice.enums.AccountStatus;
+import com.fierceadventurer.socialaccountservice.enums.AccountType;
+import com.fierceadventurer.socialaccountservice.enums.Provider;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountOwnershipDto {
+    private UUID accountId;
+    private boolean found;
+    private boolean owned;
+    private AccountStatus status;
+    private Provider provider;
+    private AccountType accountType;
+    private String displayName;
+    private String username;
+    private String profileImageUrl;
+}
@@ -0,0 +1,18 @@
+package com.fierceadventurer.socialaccountservice.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountOwnershipRequestDto {
+
+    @NotEmpty(message = "accountIds cannot be empty")
+    private List<UUID> accountIds;
+}
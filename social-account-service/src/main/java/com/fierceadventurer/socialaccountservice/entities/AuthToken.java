@@ -12,7 +12,8 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "auth_tokens")
+@Table(name = "auth_tokens",
+        indexes = @Index(name = "idx_auth_tokens_account_created", columnList = "account_id, created_at DESC"))
 @Getter
 @Setter
 @NoArgsConstructor
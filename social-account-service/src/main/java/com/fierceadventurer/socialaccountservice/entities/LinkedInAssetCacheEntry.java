@@ -0,0 +1,42 @@
+package com.fierceadventurer.socialaccountservice.entities;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "linkedin_asset_cache",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"owner_urn", "content_hash"}),
+        indexes = @Index(name = "idx_linkedin_asset_cache_expires_at", columnList = "expires_at"))
+@Getter
+@Setter
+@NoArgsConstructor
+public class LinkedInAssetCacheEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID entryId;
+
+    @Column(name = "owner_urn", nullable = false)
+    private String ownerUrn;
+
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false)
+    private String assetUrn;
+
+    @Column(nullable = false)
+    private String category;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,7 @@
+package com.fierceadventurer.socialaccountservice.enums;
+
+public enum AccountEventType {
+    DELETED,
+    SUSPENDED,
+    REASSIGNED
+}
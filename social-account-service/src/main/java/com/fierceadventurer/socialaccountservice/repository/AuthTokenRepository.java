@@ -2,10 +2,42 @@ package com.fierceadventurer.socialaccountservice.repository;
 
 import com.fierceadventurer.socialaccountservice.entities.AuthToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface AuthTokenRepository extends JpaRepository<AuthToken , UUID> {
+
+    Optional<AuthToken> findFirstBySocialAccount_AccountIdOrderByCreatedAtDesc(UUID accountId);
+
+    @Modifying
+    @Query("DELETE FROM AuthToken t WHERE t.socialAccount.accountId IN :accountIds")
+    int deleteAllBySocialAccountIds(Collection<UUID> accountIds);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM auth_token_scopes WHERE token_id IN (
+                SELECT token_id FROM (
+                    SELECT token_id, ROW_NUMBER() OVER (PARTITION BY account_id ORDER BY created_at DESC) AS rn
+                    FROM auth_tokens
+                ) ranked WHERE ranked.rn > 1
+            )
+            """, nativeQuery = true)
+    int deleteScopesOfSupersededTokens();
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM auth_tokens WHERE token_id IN (
+                SELECT token_id FROM (
+                    SELECT token_id, ROW_NUMBER() OVER (PARTITION BY account_id ORDER BY created_at DESC) AS rn
+                    FROM auth_tokens
+                ) ranked WHERE ranked.rn > 1
+            )
+            """, nativeQuery = true)
+    int deleteSupersededTokens();
 }
@@ -0,0 +1,40 @@
+package com.fierceadventurer.socialaccountservice.repository;
+
+import com.fierceadventurer.socialaccountservice.entities.LinkedInAssetCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface LinkedInAssetCacheRepository extends JpaRepository<LinkedInAssetCacheEntry, UUID> {
+
+    Optional<LinkedInAssetCacheEntry> findByOwnerUrnAndContentHashAndExpiresAtAfter(
+            String ownerUrn, String contentHash, LocalDateTime now);
+
+    /**
+     * Caches the asset, or replaces the entry for the same owner and content: an expired row
+     * not yet evicted, or one written by a concurrent upload of the same media.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO linkedin_asset_cache (entry_id, owner_urn, content_hash, asset_urn, category, created_at, expires_at)
+            VALUES (gen_random_uuid(), :ownerUrn, :contentHash, :assetUrn, :category, now(), :expiresAt)
+            ON CONFLICT (owner_urn, content_hash) DO UPDATE SET
+                asset_urn = EXCLUDED.asset_urn,
+                category = EXCLUDED.category,
+                expires_at = EXCLUDED.expires_at
+            """, nativeQuery = true)
+    int upsert(@Param("ownerUrn") String ownerUrn, @Param("contentHash") String contentHash,
+               @Param("assetUrn") String assetUrn, @Param("category") String category,
+               @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM LinkedInAssetCacheEntry e WHERE e.expiresAt < :now")
+    int deleteExpired(LocalDateTime now);
+}
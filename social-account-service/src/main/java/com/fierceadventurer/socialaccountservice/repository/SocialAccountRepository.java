@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,4 +22,11 @@ public interface SocialAccountRepository extends JpaRepository<SocialAccount, UU
     Optional<SocialAccount> findActiveAccountById(UUID accountId);
 
     Optional<SocialAccount> findByExternalId(String externalId);
+
+    List<SocialAccount> findAllByExternalIdIn(Collection<String> externalIds);
+
+    @Query("SELECT sa.accountId AS accountId, sa.userId AS userId, sa.status AS status, sa.provider AS provider, " +
+            "sa.accountType AS accountType, sa.displayName AS displayName, sa.username AS username, " +
+            "sa.profileImageUrl AS profileImageUrl FROM SocialAccount sa WHERE sa.accountId IN :accountIds")
+    List<SocialAccountSummary> findSummariesByAccountIdIn(Collection<UUID> accountIds);
 }
@@ -0,0 +1,22 @@
+package com.fierceadventurer.socialaccountservice.repository;
+
+import com.fierceadventurer.socialaccountservice.enums.AccountStatus;
+import com.fierceadventurer.socialaccountservice.enums.AccountType;
+import com.fierceadventurer.socialaccountservice.enums.Provider;
+
+import java.util.UUID;
+
+/**
+ * Column-only view of a social account. Selecting it never touches the token or quota
+ * associations, so a batch lookup stays a single query.
+ */
+public interface SocialAccountSummary {
+    UUID getAccountId();
+    UUID getUserId();
+    AccountStatus getStatus();
+    Provider getProvider();
+    AccountType getAccountType();
+    String getDisplayName();
+    String getUsername();
+    String getProfileImageUrl();
+}
@@ -1,9 +1,11 @@
 package com.fierceadventurer.socialaccountservice.service.Impl;
 
+import com.fierceadventurer.socialaccountservice.dto.AccountOwnershipDto;
 import com.fierceadventurer.socialaccountservice.dto.SocialAccountResponseDto;
 import com.fierceadventurer.socialaccountservice.exception.ResourceNotFoundException;
 import com.fierceadventurer.socialaccountservice.mapper.SocialAccountMapper;
 import com.fierceadventurer.socialaccountservice.repository.SocialAccountRepository;
+import com.fierceadventurer.socialaccountservice.repository.SocialAccountSummary;
 import com.fierceadventurer.socialaccountservice.service.AccountQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -11,7 +13,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -34,4 +41,34 @@ public class AccountQueryServiceImpl implements AccountQueryService {
                         ()-> new ResourceNotFoundException("Social account not found with id: " + accountId)
         );
     }
+
+    @Override
+    public List<AccountOwnershipDto> getAccountOwnership(UUID userId, List<UUID> accountIds) {
+        Map<UUID, SocialAccountSummary> summaries = socialAccountRepository
+                .findSummariesByAccountIdIn(new HashSet<>(accountIds))
+                .stream()
+                .collect(Collectors.toMap(SocialAccountSummary::getAccountId, Function.identity()));
+
+        return accountIds.stream()
+                .map(accountId -> {
+                    SocialAccountSummary summary = summaries.get(accountId);
+                    // Accounts the caller does not own are reported exactly like missing ones,
+                    // so the endpoint cannot be used to probe other users' account details.
+                    if(summary == null || !summary.getUserId().equals(userId)){
+                        return AccountOwnershipDto.builder().accountId(accountId).owned(false).build();
+                    }
+                    return AccountOwnershipDto.builder()
+                            .accountId(accountId)
+                            .found(true)
+                            .owned(true)
+                            .status(summary.getStatus())
+                            .provider(summary.getProvider())
+                            .accountType(summary.getAccountType())
+                            .displayName(summary.getDisplayName())
+                            .username(summary.getUsername())
+                            .profileImageUrl(summary.getProfileImageUrl())
+                            .build();
+                })
+                .toList();
+    }
 }
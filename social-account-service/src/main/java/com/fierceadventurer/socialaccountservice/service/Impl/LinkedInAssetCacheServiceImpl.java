@@ -0,0 +1,72 @@
+package com.fierceadventurer.socialaccountservice.service.Impl;
+
+import com.fierceadventurer.socialaccountservice.dto.UploadedMediaInfo;
+import com.fierceadventurer.socialaccountservice.repository.LinkedInAssetCacheRepository;
+import com.fierceadventurer.socialaccountservice.service.LinkedInAssetCacheService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class LinkedInAssetCacheServiceImpl implements LinkedInAssetCacheService {
+
+    private final LinkedInAssetCacheRepository assetCacheRepository;
+    private final Duration timeToLive;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public LinkedInAssetCacheServiceImpl(
+            LinkedInAssetCacheRepository assetCacheRepository,
+            MeterRegistry meterRegistry,
+            @Value("${linkedin.asset-cache.ttl:30d}") Duration timeToLive
+    ) {
+        this.assetCacheRepository = assetCacheRepository;
+        this.timeToLive = timeToLive;
+        this.hitCounter = Counter.builder("linkedin.asset.cache")
+                .tag("result", "hit")
+                .description("LinkedIn uploads served from an already registered asset")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("linkedin.asset.cache")
+                .tag("result", "miss")
+                .description("LinkedIn uploads that had to register and transfer the media")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UploadedMediaInfo> findAsset(String ownerUrn, String contentHash) {
+        Optional<UploadedMediaInfo> cached = assetCacheRepository
+                .findByOwnerUrnAndContentHashAndExpiresAtAfter(ownerUrn, contentHash, LocalDateTime.now())
+                .map(entry -> new UploadedMediaInfo(entry.getAssetUrn(), entry.getCategory()));
+
+        (cached.isPresent() ? hitCounter : missCounter).increment();
+        return cached;
+    }
+
+    @Override
+    @Transactional
+    public void saveAsset(String ownerUrn, String contentHash, UploadedMediaInfo mediaInfo) {
+        assetCacheRepository.upsert(ownerUrn, contentHash, mediaInfo.getAssetUrn(), mediaInfo.getCategory(),
+                LocalDateTime.now().plus(timeToLive));
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(fixedDelay = 6, timeUnit = TimeUnit.HOURS)
+    public void evictExpiredAssets() {
+        int removed = assetCacheRepository.deleteExpired(LocalDateTime.now());
+        if(removed > 0){
+            log.info("Evicted {} expired LinkedIn asset cache entries", removed);
+        }
+    }
+}
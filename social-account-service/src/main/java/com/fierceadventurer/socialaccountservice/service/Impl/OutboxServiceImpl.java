@@ -0,0 +1,97 @@
+package com.fierceadventurer.socialaccountservice.service.Impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fierceadventurer.socialaccountservice.entities.OutboxEvent;
+import com.fierceadventurer.socialaccountservice.repository.OutboxEventRepository;
+import com.fierceadventurer.socialaccountservice.service.OutboxService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final long sendTimeoutMs;
+
+    public OutboxServiceImpl(
+            OutboxEventRepository outboxEventRepository,
+            KafkaTemplate<String, String> kafkaTemplate,
+            ObjectMapper objectMapper,
+            @Value("${outbox.relay.batch-size:100}") int batchSize,
+            @Value("${outbox.relay.send-timeout-ms:10000}") long sendTimeoutMs
+    ) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        this.sendTimeoutMs = sendTimeoutMs;
+    }
+
+    /**
+     * Records an event in the caller's transaction. Nothing reaches Kafka unless that
+     * transaction commits, and the broker is never contacted on the request path.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String topic, String messageKey, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setTopic(topic);
+        event.setMessageKey(messageKey);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        }
+        catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize outbox payload for topic " + topic, e);
+        }
+        outboxEventRepository.save(event);
+    }
+
+    /**
+     * Publishes the oldest pending events as one producer batch and deletes them once every
+     * send is acknowledged. Rows stay locked until then, so replicas never relay the same
+     * batch; a failed send rolls back and the whole batch is retried on the next poll.
+     */
+    @Override
+    @Transactional
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval-ms:500}")
+    public void relayPendingEvents() {
+        List<OutboxEvent> pending = outboxEventRepository.lockNextBatch(batchSize);
+        if(pending.isEmpty()){
+            return;
+        }
+
+        List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(pending.size());
+        for(OutboxEvent event : pending){
+            sends.add(kafkaTemplate.send(event.getTopic(), event.getMessageKey(), event.getPayload()));
+        }
+        kafkaTemplate.flush();
+
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        }
+        catch (Exception e) {
+            log.error("Failed to relay {} outbox events, will retry: {}", pending.size(), e.getMessage());
+            throw new IllegalStateException("Outbox relay failed", e);
+        }
+
+        outboxEventRepository.deleteAllInBatch(pending);
+        log.info("Relayed {} outbox events", pending.size());
+    }
+}
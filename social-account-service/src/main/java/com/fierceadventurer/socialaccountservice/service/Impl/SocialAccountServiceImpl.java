@@ -10,6 +10,7 @@ import com.fierceadventurer.socialaccountservice.dto.*;
 import com.fierceadventurer.socialaccountservice.entities.AuthToken;
 import com.fierceadventurer.socialaccountservice.entities.RateLimitQuota;
 import com.fierceadventurer.socialaccountservice.entities.SocialAccount;
+import com.fierceadventurer.socialaccountservice.enums.AccountEventType;
 import com.fierceadventurer.socialaccountservice.enums.AccountStatus;
 import com.fierceadventurer.socialaccountservice.enums.AccountType;
 import com.fierceadventurer.socialaccountservice.enums.Provider;
@@ -19,22 +20,30 @@ import com.fierceadventurer.socialaccountservice.mapper.SocialAccountMapper;
 import com.fierceadventurer.socialaccountservice.repository.AuthTokenRepository;
 import com.fierceadventurer.socialaccountservice.repository.RateLimitQuotaRepository;
 import com.fierceadventurer.socialaccountservice.repository.SocialAccountRepository;
+import com.fierceadventurer.socialaccountservice.service.OutboxService;
 import com.fierceadventurer.socialaccountservice.service.SocialAccountService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.hc.core5.http.HttpHeaders;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestClient;
 
 import java.time.LocalDateTime;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -45,10 +54,11 @@ public class SocialAccountServiceImpl implements SocialAccountService {
     private final AuthTokenRepository authTokenRepository;
     private final SocialAccountMapper socialAccountMapper;
     private final RateLimitProperties rateLimitProperties;
-    private final KafkaTemplate<String, AccountCreatedEvent> kafkaTemplate;
+    private final OutboxService outboxService;
     private final TokenRefreshClientFactory tokenRefreshFactory;
     private final LinkedInConnectClient linkedInConnectClient;
     private final RateLimitQuotaRepository rateLimitQuotaRepository;
+    private final ExecutorService discoveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
 
     @Override
@@ -64,106 +74,159 @@ public class SocialAccountServiceImpl implements SocialAccountService {
                 requestDto.getAuthCode(),
                 requestDto.getRedirectUri()
         );
+        // Profile and organization lookups are independent, so run the slower ACL query alongside.
+        CompletableFuture<LinkedInOrgResponse> orgsFuture = CompletableFuture.supplyAsync(
+                () -> linkedInConnectClient.fetchUserCompanies(tokens.getAccessToken()), discoveryExecutor);
         LinkedInUserInfo userInfo = linkedInConnectClient.fetchUserProfile(tokens.getAccessToken());
 
-
-        String personUrn = "urn:li:person:" + userInfo.getExternalId();
-        SocialAccount personAccount = saveOrUpdateAccount(
-                userId,
-                personUrn,
+        List<AccountTarget> targets = new ArrayList<>();
+        targets.add(new AccountTarget(
+                "urn:li:person:" + userInfo.getExternalId(),
                 userInfo.getFullName(),
                 userInfo.getEmail(),
-                "PERSONAL",
-                userInfo.getPictureUrl(),
-                tokens
-        );
+                AccountType.PERSONAL,
+                userInfo.getPictureUrl()
+        ));
 
         try {
-            LinkedInOrgResponse orgs = linkedInConnectClient.fetchUserCompanies(tokens.getAccessToken());
-
-            if(orgs != null && orgs.getElements() != null){
-                for(LinkedInOrgResponse.Element element : orgs.getElements()){
-                    if(element.getOrganizationDetails() != null){
-                        String orgName = element.getOrganizationDetails().getLocalizedName();
-                        String orgId = element.getOrganizationDetails().getId();
-                        String fullUrn = "urn:li:organization:" + orgId;
-
-                        log.info("Found Organization: {} ({})", orgName , fullUrn);
-                        String orgUsername = "org_" + orgId + "@linkedin.business";
-
-                        saveOrUpdateAccount(
-                                userId,
-                                fullUrn,
-                                orgName,
-                                orgUsername,
-                                "BUSINESS",
-                                null,
-                                tokens
-                        );
-                    }
-                }
-            }
+            targets.addAll(toOrganizationTargets(orgsFuture.join()));
         }
         catch (Exception e){
-            log.error("Error fetching/saving organizations. Proceeding with personal account only." , e);
+            log.error("Error fetching organizations. Proceeding with personal account only." , e);
         }
 
-        return socialAccountMapper.toDto(personAccount);
+        List<SocialAccount> accounts = saveOrUpdateAccounts(userId, targets, tokens);
+        return socialAccountMapper.toDto(accounts.get(0));
 
     }
 
-    private SocialAccount saveOrUpdateAccount(
-            UUID userId , String externalId , String displayName ,String username,
-            String accountTypeStr , String profileImage , LinkedInTokenResponse tokens){
+    private List<AccountTarget> toOrganizationTargets(LinkedInOrgResponse orgs) {
+        List<AccountTarget> targets = new ArrayList<>();
+        if(orgs == null || orgs.getElements() == null){
+            return targets;
+        }
+        for(LinkedInOrgResponse.Element element : orgs.getElements()){
+            if(element.getOrganizationDetails() != null){
+                String orgName = element.getOrganizationDetails().getLocalizedName();
+                String orgId = element.getOrganizationDetails().getId();
+                String fullUrn = "urn:li:organization:" + orgId;
+
+                log.info("Found Organization: {} ({})", orgName , fullUrn);
+                targets.add(new AccountTarget(
+                        fullUrn,
+                        orgName,
+                        "org_" + orgId + "@linkedin.business",
+                        AccountType.BUSINESS,
+                        null
+                ));
+            }
+        }
+        return targets;
+    }
 
-        SocialAccount account = socialAccountRepository.findByExternalId(externalId).orElse(new SocialAccount());
+    /**
+     * Upserts every target with a constant number of statements: one IN lookup, then batched
+     * account, token and quota writes. Returned accounts keep the order of {@code targets}.
+     */
+    private List<SocialAccount> saveOrUpdateAccounts(
+            UUID userId , List<AccountTarget> targets , LinkedInTokenResponse tokens){
+
+        Map<String, AccountTarget> uniqueTargets = new LinkedHashMap<>();
+        for(AccountTarget target : targets){
+            uniqueTargets.putIfAbsent(target.externalId(), target);
+        }
+
+        Map<String, SocialAccount> existingAccounts = socialAccountRepository
+                .findAllByExternalIdIn(uniqueTargets.keySet())
+                .stream()
+                .collect(Collectors.toMap(SocialAccount::getExternalId, Function.identity(), (first, second) -> first));
+
+        List<SocialAccount> accounts = new ArrayList<>(uniqueTargets.size());
+        List<SocialAccount> newAccounts = new ArrayList<>();
+        List<UUID> existingAccountIds = new ArrayList<>();
+
+        for(AccountTarget target : uniqueTargets.values()){
+            SocialAccount account = existingAccounts.get(target.externalId());
+            if(account == null){
+                account = new SocialAccount();
+                newAccounts.add(account);
+            }
+            else {
+                existingAccountIds.add(account.getAccountId());
+                if(!userId.equals(account.getUserId())){
+                    publishLifecycleEvent(account.getAccountId(), account.getUserId(), AccountEventType.REASSIGNED);
+                }
+            }
 
-        boolean isNew = account.getAccountId() == null;
+            account.setUserId(userId);
+            account.setProvider(Provider.LINKEDIN);
+            account.setAccountType(target.accountType());
+            account.setExternalId(target.externalId());
+            account.setDisplayName(target.displayName());
+            account.setUsername(target.username() != null ? target.username() : target.externalId());
+            account.setProfileImageUrl(target.profileImage());
+            account.setStatus(AccountStatus.CONNECTED);
+            accounts.add(account);
+        }
 
-        account.setUserId(userId);
-        account.setProvider(Provider.LINKEDIN);
-        account.setAccountType(AccountType.valueOf(accountTypeStr));
-        account.setExternalId(externalId);
-        account.setDisplayName(displayName);
-        account.setUsername(username != null ? username : externalId);
-        account.setProfileImageUrl(profileImage);
-        account.setStatus(AccountStatus.CONNECTED);
+        List<SocialAccount> savedAccounts = socialAccountRepository.saveAll(accounts);
 
-        SocialAccount savedAccount = socialAccountRepository.save(account);
-        if(!isNew){
-            authTokenRepository.deleteAll(savedAccount.getAuthTokens());
-            savedAccount.getAuthTokens().clear();
+        if(!existingAccountIds.isEmpty()){
+            authTokenRepository.deleteAllBySocialAccountIds(existingAccountIds);
         }
-        AuthToken authToken = new AuthToken();
-        authToken.setSocialAccount(savedAccount);
-        authToken.setAccessToken(tokens.getAccessToken());
-        authToken.setRefreshToken(tokens.getRefreshToken());
-        authToken.setExpiry(LocalDateTime.now().plusSeconds(tokens.getExpiresIn()));
-        authTokenRepository.save(authToken);
 
-        if(isNew){
-            RateLimitQuota quota = new RateLimitQuota();
-            quota.setSocialAccount(savedAccount);
+        LocalDateTime expiry = LocalDateTime.now().plusSeconds(tokens.getExpiresIn());
+        List<AuthToken> authTokens = new ArrayList<>(savedAccounts.size());
+        for(SocialAccount savedAccount : savedAccounts){
+            AuthToken authToken = new AuthToken();
+            authToken.setSocialAccount(savedAccount);
+            authToken.setAccessToken(tokens.getAccessToken());
+            authToken.setRefreshToken(tokens.getRefreshToken());
+            authToken.setExpiry(expiry);
+            authTokens.add(authToken);
+        }
+        authTokenRepository.saveAll(authTokens);
 
+        if(!newAccounts.isEmpty()){
             RateLimitProperties.ProviderConfig config = rateLimitProperties
                     .getProviders().getOrDefault("linkedin" , rateLimitProperties.getProviders().get("default"));
 
-            quota.setRequestLimit(config.getLimit());
-            quota.setUsedRequests(0);
-            quota.setWindowStart(LocalDateTime.now());
-            rateLimitQuotaRepository.save(quota);
-
-            AccountCreatedEvent event = new AccountCreatedEvent(
-                    savedAccount.getAccountId(),
-                    savedAccount.getProvider().name()
-            );
-            kafkaTemplate.send("social-account-created-topic", event);
+            List<RateLimitQuota> quotas = new ArrayList<>(newAccounts.size());
+            for(SocialAccount newAccount : newAccounts){
+                RateLimitQuota quota = new RateLimitQuota();
+                quota.setSocialAccount(newAccount);
+                quota.setRequestLimit(config.getLimit());
+                quota.setUsedRequests(0);
+                quota.setWindowStart(LocalDateTime.now());
+                quotas.add(quota);
+            }
+            rateLimitQuotaRepository.saveAll(quotas);
+
+            for(SocialAccount newAccount : newAccounts){
+                AccountCreatedEvent event = new AccountCreatedEvent(
+                        newAccount.getAccountId(),
+                        newAccount.getProvider().name()
+                );
+                outboxService.enqueue("social-account-created-topic",
+                        newAccount.getAccountId().toString(), event);
+            }
+        }
+        return savedAccounts;
 
 
-        }
-        return savedAccount;
+    }
 
+    /**
+     * Tells other services to drop anything they cached about who owns this account.
+     */
+    private void publishLifecycleEvent(UUID accountId, UUID previousUserId, AccountEventType eventType) {
+        outboxService.enqueue("social-account-lifecycle-topic", accountId.toString(),
+                new AccountLifecycleEvent(accountId, previousUserId, eventType));
+    }
 
+    private record AccountTarget(
+            String externalId, String displayName, String username,
+            AccountType accountType, String profileImage) {
     }
 
     @Override
@@ -174,6 +237,7 @@ public class SocialAccountServiceImpl implements SocialAccountService {
                         "Social account not found with id: " + accountId));
         account.setStatus(AccountStatus.SUSPENDED);
         socialAccountRepository.save(account);
+        publishLifecycleEvent(account.getAccountId(), account.getUserId(), AccountEventType.SUSPENDED);
     }
 
     @Override
@@ -191,10 +255,10 @@ public class SocialAccountServiceImpl implements SocialAccountService {
     @Override
     @Transactional
     public void deleteSocialAccount(UUID accountId) {
-        if(!socialAccountRepository.existsById(accountId)){
-            throw new ResourceNotFoundException("Social account not found with id: " + accountId);
-        }
-        socialAccountRepository.deleteById(accountId);
+        SocialAccount account = socialAccountRepository.findById(accountId)
+                .orElseThrow(() -> new ResourceNotFoundException("Social account not found with id: " + accountId));
+        socialAccountRepository.delete(account);
+        publishLifecycleEvent(accountId, account.getUserId(), AccountEventType.DELETED);
 
     }
 
@@ -211,10 +275,7 @@ public class SocialAccountServiceImpl implements SocialAccountService {
 
     @Override
     public String getActiveAccessToken(UUID accountId) {
-        SocialAccount account = socialAccountRepository.findById(accountId)
-                .orElseThrow(() -> new ResourceNotFoundException("Account not found with id: " + accountId));
-        AuthToken currentToken = account.getAuthTokens().stream()
-                .max(Comparator.comparing(AuthToken::getExpiry))
+        AuthToken currentToken = authTokenRepository.findFirstBySocialAccount_AccountIdOrderByCreatedAtDesc(accountId)
                 .orElseThrow(() -> new ResourceNotFoundException("No Tokens found for account: " + accountId));
         if(currentToken.getExpiry().isAfter(LocalDateTime.now())){
             log.info("Found valid access token for account with id: " + accountId);
@@ -227,6 +288,7 @@ public class SocialAccountServiceImpl implements SocialAccountService {
             return refreshAccessToken(currentToken);
         }catch (Exception ex){
             log.error("Failed to refresh token for account {}. Marking as expired.", accountId, ex);
+            SocialAccount account = currentToken.getSocialAccount();
             account.setStatus(AccountStatus.TOKEN_EXPIRED);
             socialAccountRepository.save(account);
 
@@ -312,6 +374,8 @@ public class SocialAccountServiceImpl implements SocialAccountService {
 
             log.info("Found stored Linkedin token in Keycloak. Syncing ...");
 
+            CompletableFuture<LinkedInOrgResponse> orgsFuture = CompletableFuture.supplyAsync(
+                    () -> linkedInConnectClient.fetchUserCompanies(accessToken), discoveryExecutor);
             LinkedInUserInfo userInfo = linkedInConnectClient.fetchUserProfile(accessToken);
 
             LinkedInTokenResponse tokenResponse = new LinkedInTokenResponse();
@@ -320,41 +384,25 @@ public class SocialAccountServiceImpl implements SocialAccountService {
             tokenResponse.setExpiresIn(5184000L);
             tokenResponse.setRefreshToken(null);
 
-            String personUrn = "urn:li:person" + userInfo.getExternalId();
-            saveOrUpdateAccount(
-                    userId,
-                    personUrn,
+            List<AccountTarget> targets = new ArrayList<>();
+            targets.add(new AccountTarget(
+                    "urn:li:person" + userInfo.getExternalId(),
                     userInfo.getFullName(),
                     userInfo.getEmail(),
-                    "PERSONAL",
-                    userInfo.getPictureUrl(),
-                    tokenResponse
-            );
+                    AccountType.PERSONAL,
+                    userInfo.getPictureUrl()
+            ));
 
             try{
-                LinkedInOrgResponse orgs = linkedInConnectClient.fetchUserCompanies(accessToken);
-                if(orgs != null && orgs.getElements() != null){
-                    for(LinkedInOrgResponse.Element element : orgs.getElements()){
-                        if(element.getOrganizationDetails() != null){
-                            String orgId = element.getOrganizationDetails().getId();
-                            saveOrUpdateAccount(
-                                    userId,
-                                    "urn:li:organization:" + orgId,
-                                    element.getOrganizationDetails().getLocalizedName(),
-                                    "org_" + orgId + "@linkedin.business",
-                                    "BUSINESS",
-                                    null,
-                                    tokenResponse
-                            );
-                        }
-                    }
-                }
+                targets.addAll(toOrganizationTargets(orgsFuture.join()));
             }
 
             catch (Exception e){
                 log.warn("Could not sync organizations: {}", e.getMessage());
             }
 
+            saveOrUpdateAccounts(userId, targets, tokenResponse);
+
         }
         catch (Exception e){
             log.error("Failed to sync from Keycloak. User might not be logged in via LinkedIn IDP.", e);
@@ -0,0 +1,35 @@
+package com.fierceadventurer.socialaccountservice.service.Impl;
+
+import com.fierceadventurer.socialaccountservice.repository.AuthTokenRepository;
+import com.fierceadventurer.socialaccountservice.service.TokenPruningService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.TimeUnit;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenPruningServiceImpl implements TokenPruningService {
+
+    private final AuthTokenRepository authTokenRepository;
+
+    /**
+     * Keeps only the newest token per account, which is the only one the
+     * token lookups ever read.
+     */
+    @Override
+    @Transactional
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.HOURS)
+    public int pruneSupersededTokens() {
+        authTokenRepository.deleteScopesOfSupersededTokens();
+        int removed = authTokenRepository.deleteSupersededTokens();
+        if(removed > 0){
+            log.info("Pruned {} superseded auth tokens", removed);
+        }
+        return removed;
+    }
+}
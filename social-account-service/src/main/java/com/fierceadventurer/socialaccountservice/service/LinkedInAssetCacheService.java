@@ -0,0 +1,11 @@
+package com.fierceadventurer.socialaccountservice.service;
+
+import com.fierceadventurer.socialaccountservice.dto.UploadedMediaInfo;
+
+import java.util.Optional;
+
+public interface LinkedInAssetCacheService {
+    Optional<UploadedMediaInfo> findAsset(String ownerUrn, String contentHash);
+    void saveAsset(String ownerUrn, String contentHash, UploadedMediaInfo mediaInfo);
+    void evictExpiredAssets();
+}
@@ -0,0 +1,6 @@
+package com.fierceadventurer.socialaccountservice.service;
+
+public interface OutboxService {
+    void enqueue(String topic, String messageKey, Object payload);
+    void relayPendingEvents();
+}
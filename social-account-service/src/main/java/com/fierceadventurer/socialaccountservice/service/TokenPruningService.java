@@ -0,0 +1,5 @@
+package com.fierceadventurer.socialaccountservice.service;
+
+public interface TokenPruningService {
+    int pruneSupersededTokens();
+}